@@ -0,0 +1,289 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.dto.reponses.BudgetUtilizationResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CategoryUtilizationDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.BudgetThresholdCrossedEvent;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.CategoryBudget;
+import com.fullStack.expenseTracker.repository.CategoryBudgetRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Expense spending against the overall and category budgets of a user's month, kept in memory so
+// the budget versus actual view needs no query once the month is warm. A month is loaded from
+// transaction_rollup and the budget tables on its first read; after that a committed transaction
+// write only bumps striped LongAdders of minor units, and reaching one of the configured budget
+// percentages publishes a BudgetThresholdCrossedEvent. A write that commits while its month is
+// loading discards that load, because the load may have read the rollup before the write.
+// transaction_rollup already persists every write, so nothing needs flushing; a periodic resync
+// reloads the current month from it and drops the other months.
+@Component
+@Slf4j
+public class BudgetUtilizationTracker {
+
+    // Level key of the overall monthly budget; category ids start at 1.
+    private static final int OVERALL = 0;
+
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Autowired
+    private TransactionAnalyticsCache transactionAnalyticsCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.budget.utilization.thresholds:80,100}")
+    private int[] thresholds;
+
+    private final Map<MonthKey, MonthSpend> months = new ConcurrentHashMap<>();
+
+    // Committed expense writes per month, bumped before the month is looked up. Compared by identity
+    // as well, so a counter dropped by the resync cannot look unchanged to a load that read it.
+    private final Map<MonthKey, AtomicLong> writes = new ConcurrentHashMap<>();
+
+    public BudgetUtilizationResponseDto utilization(long userId, int month, int year) {
+        MonthKey key = new MonthKey(userId, year, month);
+        MonthSpend spend = months.get(key);
+        if (spend == null) {
+            AtomicLong counter = writes(key);
+            long seen = counter.get();
+            MonthSpend loaded = load(key);
+            spend = months.putIfAbsent(key, loaded);
+            if (spend == null) {
+                // Answer this read from the load either way; a discarded one is loaded again next time.
+                spend = loaded;
+                discardIfWritten(key, loaded, counter, seen);
+            }
+        }
+
+        Set<Integer> categoryIds = new TreeSet<>(spend.categoryBudgets.keySet());
+        categoryIds.addAll(spend.categories.keySet());
+        List<CategoryUtilizationDto> categories = new ArrayList<>();
+        for (int categoryId : categoryIds) {
+            double budget = spend.categoryBudgets.getOrDefault(categoryId, 0.0);
+            double spent = spend.spent(categoryId) / 100.0;
+            if (budget > 0 || spent != 0) {
+                categories.add(new CategoryUtilizationDto(categoryId, transactionAnalyticsCache.categoryName(categoryId),
+                        budget, spent, percent(spent, budget)));
+            }
+        }
+        double spent = spend.expense.sum() / 100.0;
+        return new BudgetUtilizationResponseDto(month, year, spend.budget, spent, percent(spent, spend.budget), categories);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (event.getBefore() != null) {
+            count(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            count(event.getAfter(), 1);
+        }
+    }
+
+    // Picks up a changed budget of a warm month without announcing the levels it moves to.
+    public void budgetChanged(long userId, int month, int year) {
+        MonthSpend spend = months.get(new MonthKey(userId, year, month));
+        if (spend != null) {
+            loadBudgets(new MonthKey(userId, year, month), spend);
+            settle(spend);
+        }
+    }
+
+    public void clear() {
+        months.clear();
+        writes.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.budget.utilization.resync-ms:600000}",
+            initialDelayString = "${app.budget.utilization.resync-ms:600000}")
+    public void resync() {
+        YearMonth current = YearMonth.now();
+        writes.keySet().removeIf(key -> !current.equals(YearMonth.of(key.year(), key.month())));
+        int reloaded = 0;
+        for (MonthKey key : months.keySet()) {
+            if (!current.equals(YearMonth.of(key.year(), key.month()))) {
+                months.remove(key);
+                continue;
+            }
+            try {
+                if (reload(key)) {
+                    reloaded++;
+                }
+            } catch (RuntimeException e) {
+                months.remove(key);
+                log.error("Failed to resync budget utilization of user {}: {}", key.userId(), e.getMessage(), e);
+            }
+        }
+        log.debug("Resynced budget utilization of {} months", reloaded);
+    }
+
+    // Swaps in a fresh load only if the month was not dropped or loaded again meanwhile, in which case
+    // the load is retried against the newer entry.
+    private boolean reload(MonthKey key) {
+        for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS; attempt++) {
+            MonthSpend old = months.get(key);
+            if (old == null) {
+                return false;
+            }
+            AtomicLong counter = writes(key);
+            long seen = counter.get();
+            MonthSpend fresh = load(key);
+            if (months.replace(key, old, fresh)) {
+                return !discardIfWritten(key, fresh, counter, seen);
+            }
+        }
+        log.warn("Gave up resyncing budget utilization of user {} after {} attempts", key.userId(), MAX_RELOAD_ATTEMPTS);
+        return false;
+    }
+
+    private void count(TransactionSnapshot snapshot, int sign) {
+        if (snapshot.getUserId() == null || snapshot.getDate() == null || snapshot.getCategoryId() == null
+                || ETransactionType.isIncome(snapshot.getTransactionTypeId())) {
+            return;
+        }
+        MonthKey key = new MonthKey(snapshot.getUserId(), snapshot.getDate().getYear(), snapshot.getDate().getMonthValue());
+        writes(key).incrementAndGet();
+        // Cold months are read from transaction_rollup when they are first asked for.
+        MonthSpend spend = months.get(key);
+        if (spend == null) {
+            return;
+        }
+        long minor = sign * Math.round(snapshot.getAmount() * 100);
+        spend.expense.add(minor);
+        spend.categories.computeIfAbsent(snapshot.getCategoryId(), id -> new LongAdder()).add(minor);
+        check(key, spend, snapshot.getCategoryId());
+        check(key, spend, OVERALL);
+    }
+
+    // Moves the level of one budget to the highest threshold its spending has reached. The spending is
+    // read again after every lost compareAndSet, so a writer holding a stale sum cannot lower a level
+    // that another writer has just raised, and each upward move is published by exactly one writer.
+    private void check(MonthKey key, MonthSpend spend, int categoryId) {
+        double budget = budget(spend, categoryId);
+        if (budget <= 0) {
+            return;
+        }
+        AtomicInteger current = spend.levels.computeIfAbsent(categoryId, id -> new AtomicInteger());
+        while (true) {
+            int previous = current.get();
+            double spent = (categoryId == OVERALL ? spend.expense.sum() : spend.spent(categoryId)) / 100.0;
+            int level = level(spent, budget);
+            if (level == previous) {
+                return;
+            }
+            if (current.compareAndSet(previous, level)) {
+                if (level > previous) {
+                    BudgetThresholdCrossedEvent event = new BudgetThresholdCrossedEvent(key.userId(),
+                            categoryId == OVERALL ? null : categoryId, key.year(), key.month(), level, budget, spent);
+                    log.info("Budget threshold crossed: {}", event);
+                    eventPublisher.publishEvent(event);
+                }
+                return;
+            }
+        }
+    }
+
+    private AtomicLong writes(MonthKey key) {
+        return writes.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    // Drops an installed load again if a write of its month committed since the counter was read: that
+    // write may be missing from the load and, had it found the month cold, was not counted either.
+    private boolean discardIfWritten(MonthKey key, MonthSpend loaded, AtomicLong counter, long seen) {
+        if (writes.get(key) == counter && counter.get() == seen) {
+            return false;
+        }
+        months.remove(key, loaded);
+        return true;
+    }
+
+    private MonthSpend load(MonthKey key) {
+        MonthSpend spend = new MonthSpend();
+        for (Object[] row : transactionRollupRepository.findExpenseTotalsByCategory(key.userId(), key.month(), key.year())) {
+            long minor = row[1] != null ? Math.round((Double) row[1] * 100) : 0;
+            spend.expense.add(minor);
+            spend.categories.computeIfAbsent((Integer) row[0], id -> new LongAdder()).add(minor);
+        }
+        loadBudgets(key, spend);
+        settle(spend);
+        return spend;
+    }
+
+    private void loadBudgets(MonthKey key, MonthSpend spend) {
+        spend.budget = transactionAnalyticsCache.budget(key.userId(), key.month(), key.year());
+        spend.categoryBudgets = categoryBudgetRepository.findByUserIdAndYearAndMonth(key.userId(), key.year(), key.month())
+                .stream()
+                .collect(Collectors.toMap(CategoryBudget::getCategoryId, CategoryBudget::getAmount));
+    }
+
+    // Sets every level from the current spending, so loading a month that is already over budget is quiet.
+    private void settle(MonthSpend spend) {
+        spend.levels.put(OVERALL, new AtomicInteger(level(spend.expense.sum() / 100.0, spend.budget)));
+        for (Map.Entry<Integer, Double> entry : spend.categoryBudgets.entrySet()) {
+            spend.levels.put(entry.getKey(), new AtomicInteger(level(spend.spent(entry.getKey()) / 100.0, entry.getValue())));
+        }
+    }
+
+    private int level(double spent, double budget) {
+        int level = 0;
+        if (budget > 0) {
+            for (int threshold : thresholds) {
+                if (spent * 100 >= threshold * budget) {
+                    level = Math.max(level, threshold);
+                }
+            }
+        }
+        return level;
+    }
+
+    private static double budget(MonthSpend spend, int categoryId) {
+        return categoryId == OVERALL ? spend.budget : spend.categoryBudgets.getOrDefault(categoryId, 0.0);
+    }
+
+    private static double percent(double spent, double budget) {
+        return budget > 0 ? Math.round(spent / budget * 10000) / 100.0 : 0;
+    }
+
+    private record MonthKey(long userId, int year, int month) {
+    }
+
+    private static final class MonthSpend {
+        private final LongAdder expense = new LongAdder();
+        private final Map<Integer, LongAdder> categories = new ConcurrentHashMap<>();
+        private final Map<Integer, AtomicInteger> levels = new ConcurrentHashMap<>();
+        private volatile double budget;
+        private volatile Map<Integer, Double> categoryBudgets = Map.of();
+
+        private long spent(int categoryId) {
+            LongAdder adder = categories.get(categoryId);
+            return adder == null ? 0 : adder.sum();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// Per-user columnar snapshots of transaction history, so report reads of active users are
+// answered from memory. A snapshot is loaded on the first report read of a user, patched after
+// every committed write and dropped least recently used first once all snapshots together
+// exceed the memory budget. A write that commits while a snapshot is loading discards that load,
+// because the load may have read the table before the write. Writes committed by other
+// application instances publish no event here, so a snapshot, like the mark of a user too large
+// to cache, is reloaded from the database once it is older than the TTL.
+@Component
+@Slf4j
+public class TransactionAnalyticsCache {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.analytics.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.analytics.cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.analytics.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    // Access ordered, so iteration starts at the least recently used user. Guarded by itself.
+    private final LinkedHashMap<Long, UserTransactionColumns> users = new LinkedHashMap<>(16, 0.75f, true);
+
+    // System.nanoTime after which a cached snapshot is reloaded. Guarded by users.
+    private final Map<Long, Long> expiries = new HashMap<>();
+
+    private long usedBytes;
+
+    private final Map<Long, Long> writeVersions = new ConcurrentHashMap<>();
+
+    // Users whose history alone exceeds the budget, until their size is checked again; their
+    // reports stay on the database.
+    private final Map<Long, Long> oversized = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+
+    private final Map<Integer, String> categoryNames = new ConcurrentHashMap<>();
+
+    // Budget amounts of cached users by month key (year * 12 + month - 1), so a dashboard of a
+    // cached user needs no query at all.
+    private final Map<Long, Map<Integer, Double>> budgets = new ConcurrentHashMap<>();
+
+    // The user's snapshot, loading it on first use; null when the cache is off or the user's
+    // history does not fit, in which case callers read the database.
+    public UserTransactionColumns forUser(Long userId) {
+        if (!enabled || userId == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        Long oversizedUntil = oversized.get(userId);
+        if (oversizedUntil != null) {
+            if (oversizedUntil - now > 0) {
+                return null;
+            }
+            oversized.remove(userId);
+        }
+        synchronized (users) {
+            UserTransactionColumns columns = users.get(userId);
+            if (columns != null) {
+                if (expiries.get(userId) - now > 0) {
+                    return columns;
+                }
+                drop(userId);
+            }
+        }
+        return load(userId);
+    }
+
+    public UserTransactionColumns forEmail(String email) {
+        if (!enabled || email == null) {
+            return null;
+        }
+        Long userId = userId(email);
+        return userId == null ? null : forUser(userId);
+    }
+
+    // Emails never change, so a resolved id is kept for good; unknown emails are not remembered.
+    public Long userId(String email) {
+        Long userId = userIdsByEmail.get(email);
+        if (userId == null) {
+            userId = userRepository.findByEmail(email).map(User::getId).orElse(null);
+            if (userId != null) {
+                userIdsByEmail.put(email, userId);
+            }
+        }
+        return userId;
+    }
+
+    public String categoryName(int categoryId) {
+        if (categoryNames.isEmpty()) {
+            categoryRepository.findAll().forEach(c -> categoryNames.put(c.getCategoryId(), c.getCategoryName()));
+        }
+        return categoryNames.get(categoryId);
+    }
+
+    // Memoized only while the user's snapshot is cached, so it expires and is evicted with it.
+    public double budget(long userId, int month, int year) {
+        Map<Integer, Double> userBudgets;
+        synchronized (users) {
+            userBudgets = users.containsKey(userId) ? budgets.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()) : null;
+        }
+        if (userBudgets == null) {
+            return loadBudget(userId, month, year);
+        }
+        return userBudgets.computeIfAbsent(year * 12 + month - 1, key -> loadBudget(userId, month, year));
+    }
+
+    private double loadBudget(long userId, int month, int year) {
+        Budget budget = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        return budget == null ? 0.0 : budget.getAmount();
+    }
+
+    public void putBudget(Budget budget) {
+        Map<Integer, Double> userBudgets = budgets.get(budget.getUserId());
+        if (userBudgets != null) {
+            userBudgets.put((int) budget.getYear() * 12 + budget.getMonth() - 1, budget.getAmount());
+        }
+    }
+
+    public void putCategory(Category category, int previousTransactionTypeId) {
+        categoryNames.put(category.getCategoryId(), category.getCategoryName());
+        int transactionTypeId = category.getTransactionType().getTransactionTypeId();
+        if (transactionTypeId != previousTransactionTypeId) {
+            synchronized (users) {
+                users.values().forEach(columns -> columns.retype(category.getCategoryId(), transactionTypeId));
+            }
+        }
+    }
+
+    // Ahead of the report result cache, which retires results once the snapshot is patched.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getBefore() != null) {
+            TransactionSnapshot before = event.getBefore();
+            UserTransactionColumns columns = touch(before.getUserId());
+            if (columns != null) {
+                columns.remove(before.getTransactionId());
+            }
+        }
+        if (event.getAfter() != null) {
+            TransactionSnapshot after = event.getAfter();
+            UserTransactionColumns columns = touch(after.getUserId());
+            if (columns != null) {
+                long previousBytes = columns.estimatedBytes();
+                columns.put(after.getTransactionId(), after.getDate(), after.getAmount(),
+                        after.getCategoryId(), after.getTransactionTypeId());
+                resized(after.getUserId(), columns, previousBytes);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (users) {
+            users.clear();
+            expiries.clear();
+            usedBytes = 0;
+        }
+        oversized.clear();
+        categoryNames.clear();
+        budgets.clear();
+    }
+
+    // Marks a write of the user, so a load running concurrently is not installed, and returns the
+    // cached snapshot to patch, if any.
+    private UserTransactionColumns touch(Long userId) {
+        writeVersions.merge(userId, 1L, Long::sum);
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    private UserTransactionColumns load(long userId) {
+        Long version = writeVersions.get(userId);
+        long started = System.nanoTime();
+        UserTransactionColumns columns = new UserTransactionColumns();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        boolean fits = Boolean.TRUE.equals(readOnly.execute(status -> {
+            try (Stream<Object[]> rows = transactionRepository.streamColumnsByUserId(userId)) {
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Object[] row = iterator.next();
+                    columns.put((Long) row[0], (LocalDate) row[1], (Double) row[2], (Integer) row[3], (Integer) row[4]);
+                    if (columns.estimatedBytes() > maxBytes) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }));
+        if (!fits) {
+            oversized.put(userId, System.nanoTime() + ttlMs * 1_000_000);
+            log.warn("Transaction history of user {} exceeds the analytics cache budget, reports use the database", userId);
+            return null;
+        }
+
+        synchronized (users) {
+            if (!Objects.equals(writeVersions.get(userId), version)) {
+                // Answer this read from the load, but let the next one reload.
+                return columns;
+            }
+            UserTransactionColumns existing = users.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            users.put(userId, columns);
+            expiries.put(userId, System.nanoTime() + ttlMs * 1_000_000);
+            usedBytes += columns.estimatedBytes();
+            evict(userId);
+        }
+        log.debug("Loaded analytics snapshot of user {} with {} rows in {} ms",
+                userId, columns.size(), (System.nanoTime() - started) / 1_000_000);
+        return columns;
+    }
+
+    private void resized(Long userId, UserTransactionColumns columns, long previousBytes) {
+        long grown = columns.estimatedBytes() - previousBytes;
+        if (grown == 0) {
+            return;
+        }
+        synchronized (users) {
+            if (users.get(userId) != columns) {
+                return;
+            }
+            usedBytes += grown;
+            evict(null);
+        }
+    }
+
+    // Drops least recently used snapshots until the budget holds, keeping the one just loaded.
+    private void evict(Long keep) {
+        Iterator<Map.Entry<Long, UserTransactionColumns>> iterator = users.entrySet().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, UserTransactionColumns> entry = iterator.next();
+            if (!entry.getKey().equals(keep)) {
+                usedBytes -= entry.getValue().estimatedBytes();
+                budgets.remove(entry.getKey());
+                expiries.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    // Caller holds the users lock.
+    private void drop(Long userId) {
+        UserTransactionColumns columns = users.remove(userId);
+        if (columns != null) {
+            usedBytes -= columns.estimatedBytes();
+        }
+        budgets.remove(userId);
+        expiries.remove(userId);
+    }
+}
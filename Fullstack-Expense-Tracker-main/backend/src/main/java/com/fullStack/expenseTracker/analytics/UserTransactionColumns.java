@@ -0,0 +1,217 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// One user's transactions as parallel primitive columns, kept sorted by transaction id so that
+// loads and new transactions append and patches find their row by binary search. Amounts are
+// held in minor units, so sums are exact and every aggregate is a single pass over int and long
+// arrays. All methods lock the instance; a snapshot is only ever a few arrays per user.
+public final class UserTransactionColumns {
+
+    // Bytes per row across the columns below.
+    private static final int ROW_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private static final int OVERHEAD_BYTES = 128;
+
+    private long[] ids;
+
+    private int[] days;
+
+    private long[] amounts;
+
+    private int[] categoryIds;
+
+    private byte[] typeIds;
+
+    private int size;
+
+    private int maxCategoryId;
+
+    public UserTransactionColumns() {
+        this(16);
+    }
+
+    public UserTransactionColumns(int capacity) {
+        capacity = Math.max(capacity, 1);
+        ids = new long[capacity];
+        days = new int[capacity];
+        amounts = new long[capacity];
+        categoryIds = new int[capacity];
+        typeIds = new byte[capacity];
+    }
+
+    public static long toMinor(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    public static double fromMinor(long amount) {
+        return amount / 100.0;
+    }
+
+    public static int day(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    // Inserts the transaction or overwrites the row already holding its id.
+    public synchronized void put(long id, LocalDate date, double amount, int categoryId, int transactionTypeId) {
+        int row;
+        if (size == 0 || ids[size - 1] < id) {
+            grow();
+            row = size++;
+        } else {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                row = pos;
+            } else {
+                row = -pos - 1;
+                grow();
+                shift(row, row + 1, size - row);
+                size++;
+            }
+        }
+        ids[row] = id;
+        days[row] = day(date);
+        amounts[row] = toMinor(amount);
+        categoryIds[row] = categoryId;
+        typeIds[row] = (byte) transactionTypeId;
+        maxCategoryId = Math.max(maxCategoryId, categoryId);
+    }
+
+    public synchronized void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            shift(pos + 1, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    // Follows an admin moving a category to the other transaction type.
+    public synchronized void retype(int categoryId, int transactionTypeId) {
+        for (int i = 0; i < size; i++) {
+            if (categoryIds[i] == categoryId) {
+                typeIds[i] = (byte) transactionTypeId;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long estimatedBytes() {
+        return OVERHEAD_BYTES + (long) ids.length * ROW_BYTES;
+    }
+
+    // Sum in minor units of one transaction type over days [fromDay, toDay); null when no row
+    // matches, like SQL SUM.
+    public synchronized Long total(int fromDay, int toDay, int transactionTypeId) {
+        Long total = null;
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day >= fromDay && day < toDay && typeIds[i] == transactionTypeId) {
+                total = (total == null ? 0 : total) + amounts[i];
+            }
+        }
+        return total;
+    }
+
+    public synchronized Long totalForCategory(int fromDay, int toDay, int categoryId) {
+        Long total = null;
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day >= fromDay && day < toDay && categoryIds[i] == categoryId) {
+                total = (total == null ? 0 : total) + amounts[i];
+            }
+        }
+        return total;
+    }
+
+    public synchronized int count(int fromDay, int toDay) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day >= fromDay && day < toDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // One entry per category with transactions in [fromDay, toDay), ordered by category id.
+    public synchronized List<CategoryTotalDto> categoryTotals(int fromDay, int toDay, IntFunction<String> categoryNames) {
+        long[] totals = new long[maxCategoryId + 1];
+        int[] counts = new int[maxCategoryId + 1];
+        byte[] types = new byte[maxCategoryId + 1];
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day >= fromDay && day < toDay) {
+                int categoryId = categoryIds[i];
+                totals[categoryId] += amounts[i];
+                counts[categoryId]++;
+                types[categoryId] = typeIds[i];
+            }
+        }
+        List<CategoryTotalDto> result = new ArrayList<>();
+        for (int categoryId = 0; categoryId < counts.length; categoryId++) {
+            if (counts[categoryId] > 0) {
+                result.add(new CategoryTotalDto(categoryId, categoryNames.apply(categoryId), types[categoryId],
+                        fromMinor(totals[categoryId]), counts[categoryId]));
+            }
+        }
+        return result;
+    }
+
+    // Adds expense and income sums and row counts per bucket, where bucket i covers days
+    // [bounds[i], bounds[i + 1]). Null filters match every row.
+    public synchronized void bucketTotals(int[] bounds, Integer categoryId, Integer transactionTypeId,
+                                          long[] expense, long[] income, int[] counts) {
+        int first = bounds[0];
+        int last = bounds[bounds.length - 1];
+        boolean anyCategory = categoryId == null;
+        int category = anyCategory ? 0 : categoryId;
+        boolean anyType = transactionTypeId == null;
+        int type = anyType ? 0 : transactionTypeId;
+        for (int i = 0; i < size; i++) {
+            int day = days[i];
+            if (day < first || day >= last
+                    || (!anyCategory && categoryIds[i] != category)
+                    || (!anyType && typeIds[i] != type)) {
+                continue;
+            }
+            int pos = Arrays.binarySearch(bounds, day);
+            int bucket = pos >= 0 ? pos : -pos - 2;
+            if (typeIds[i] == ETransactionType.INCOME_ID) {
+                income[bucket] += amounts[i];
+            } else {
+                expense[bucket] += amounts[i];
+            }
+            counts[bucket]++;
+        }
+    }
+
+    private void grow() {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            days = Arrays.copyOf(days, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            typeIds = Arrays.copyOf(typeIds, capacity);
+        }
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(ids, from, ids, to, length);
+        System.arraycopy(days, from, days, to, length);
+        System.arraycopy(amounts, from, amounts, to, length);
+        System.arraycopy(categoryIds, from, categoryIds, to, length);
+        System.arraycopy(typeIds, from, typeIds, to, length);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullStack.expenseTracker.controllers;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.services.PlatformStatsService;
+import com.fullStack.expenseTracker.services.ReportService;
+import com.fullStack.expenseTracker.services.SavedTransactionCompactionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/mypockit/admin")
+public class AdminController {
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private SavedTransactionCompactionService savedTransactionCompactionService;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getStats() {
+        return platformStatsService.getStats();
+    }
+
+    @GetMapping("/reportCache")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getReportCacheStats() {
+        return reportService.getReportCacheStats();
+    }
+
+    @PostMapping("/savedTransactions/compact")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> compactSavedTransactions() throws TransactionServiceLogicException {
+        return savedTransactionCompactionService.compact();
+    }
+
+    @GetMapping("/savedTransactions/compaction")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getSavedTransactionCompaction() {
+        return savedTransactionCompactionService.getLastReport();
+    }
+}
@@ -2,6 +2,7 @@ package com.fullStack.expenseTracker.controllers;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.dto.requests.BudgetRequest;
+import com.fullStack.expenseTracker.dto.requests.CategoryBudgetRequest;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.services.BudgetService;
@@ -34,4 +35,20 @@ public class BudgetController {
             throws UserServiceLogicException {
         return budgetService.getBudgetByMonth(userId, month, year);
     }
+
+    @PostMapping("/category")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> createCategoryBudget(@RequestBody CategoryBudgetRequest categoryBudgetRequest)
+            throws UserNotFoundException, UserServiceLogicException {
+        return budgetService.createCategoryBudget(categoryBudgetRequest);
+    }
+
+    @GetMapping("/utilization")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getBudgetUtilization(@Param("userId") long userId,
+                                                                  @Param("month") int month,
+                                                                  @Param("year") int year)
+            throws UserServiceLogicException {
+        return budgetService.getBudgetUtilization(userId, month, year);
+    }
 }
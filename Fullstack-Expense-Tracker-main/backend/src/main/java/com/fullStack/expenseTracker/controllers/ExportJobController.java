@@ -0,0 +1,48 @@
+package com.fullStack.expenseTracker.controllers;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.services.ExportJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.data.repository.query.Param;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/mypockit/report/export")
+public class ExportJobController {
+
+    @Autowired
+    ExportJobService exportJobService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> submitExport(@Param("email") String email,
+                                                          @Param("format") String format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        return exportJobService.submitExport(email, format);
+    }
+
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getExportStatus(@Param("email") String email,
+                                                             @Param("jobId") String jobId)
+            throws TransactionServiceLogicException {
+
+        return exportJobService.getExportStatus(email, jobId);
+    }
+
+    @GetMapping("/download")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<Resource> downloadExport(@Param("email") String email,
+                                                   @Param("jobId") String jobId)
+            throws TransactionServiceLogicException {
+
+        return exportJobService.downloadExport(email, jobId);
+    }
+}
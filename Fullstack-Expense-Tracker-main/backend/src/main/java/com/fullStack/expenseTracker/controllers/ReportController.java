@@ -2,13 +2,20 @@ package com.fullStack.expenseTracker.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.services.ReportService;
 
 @RestController
@@ -45,22 +52,55 @@ public class ReportController {
         return reportService.getTotalExpenseByCategoryAndUser(email, categoryId, month, year);
     }
 
+    @GetMapping("/getTotalsByCategory")
+    @PreAuthorize(("hasRole('ROLE_USER')"))
+    public ResponseEntity<ApiResponseDto<?>> getTotalsByCategory(@Param("userId") Long userId,
+                                                                 @RequestParam(value = "categoryIds", required = false) List<Integer> categoryIds,
+                                                                 @Param("month") Integer month,
+                                                                 @Param("year") Integer year,
+                                                                 @RequestParam(value = "from", required = false)
+                                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(value = "to", required = false)
+                                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
+            throws TransactionServiceLogicException {
+        return reportService.getTotalsByCategory(userId, categoryIds, month, year, from, to);
+    }
+
     @GetMapping("/getMonthlySummaryByUser")
     @PreAuthorize(("hasRole('ROLE_USER')"))
     public ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(@Param("email") String email) {
         return reportService.getMonthlySummaryByUser(email);
     }
 
+    @GetMapping("/timeSeries")
+    @PreAuthorize(("hasRole('ROLE_USER')"))
+    public ResponseEntity<ApiResponseDto<?>> getTimeSeries(@Param("userId") Long userId,
+                                                           @RequestParam(value = "granularity", defaultValue = "month") String granularity,
+                                                           @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                           @RequestParam(value = "categoryId", required = false) Integer categoryId,
+                                                           @RequestParam(value = "transactionTypeId", required = false) Integer transactionTypeId)
+            throws TransactionServiceLogicException {
+        return reportService.getTimeSeries(userId, granularity, from, to, categoryId, transactionTypeId);
+    }
+
+    @GetMapping("/dashboard")
+    @PreAuthorize(("hasRole('ROLE_USER')"))
+    public ResponseEntity<ApiResponseDto<?>> getDashboard(@Param("userId") Long userId,
+                                                          @Param("month") int month,
+                                                          @Param("year") int year)
+            throws TransactionServiceLogicException {
+        return reportService.getDashboard(userId, month, year);
+    }
+
     @GetMapping("/exportTransactions/pdf")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<byte[]> exportTransactionsPdf(@Param("email") String email) {
+    public ResponseEntity<StreamingResponseBody> exportTransactionsPdf(@Param("email") String email) {
         org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ReportController.class);
         log.info("PDF export requested for email: {}", email);
         try {
-            ResponseEntity<byte[]> response = reportService.exportUserTransactionsPdf(email);
-            byte[] body = response.getBody();
-            log.info("PDF export successful for email: {}, size: {} bytes", email, 
-                    body != null ? body.length : 0);
+            ResponseEntity<StreamingResponseBody> response = reportService.exportUserTransactionsPdf(email);
+            log.info("PDF export streaming for email: {}, status: {}", email, response.getStatusCode());
             return response;
         } catch (Exception e) {
             log.error("PDF export failed for email: {}", email, e);
@@ -70,14 +110,12 @@ public class ReportController {
 
     @GetMapping("/exportTransactions/excel")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<byte[]> exportTransactionsExcel(@Param("email") String email) {
+    public ResponseEntity<StreamingResponseBody> exportTransactionsExcel(@Param("email") String email) {
         org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ReportController.class);
         log.info("Excel export requested for email: {}", email);
         try {
-            ResponseEntity<byte[]> response = reportService.exportUserTransactionsExcel(email);
-            byte[] body = response.getBody();
-            log.info("Excel export successful for email: {}, size: {} bytes", email,
-                    body != null ? body.length : 0);
+            ResponseEntity<StreamingResponseBody> response = reportService.exportUserTransactionsExcel(email);
+            log.info("Excel export streaming for email: {}, status: {}", email, response.getStatusCode());
             return response;
         } catch (Exception e) {
             log.error("Excel export failed for email: {}", email, e);
@@ -85,4 +123,18 @@ public class ReportController {
         }
     }
 
+    @GetMapping("/exportTransactions/csv")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportTransactionsCsv(@Param("email") String email,
+                                                                       @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return reportService.exportUserTransactionsCsv(email, gzip);
+    }
+
+    @GetMapping("/exportTransactions/ndjson")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportTransactionsNdjson(@Param("email") String email,
+                                                                          @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return reportService.exportUserTransactionsNdjson(email, gzip);
+    }
+
 }
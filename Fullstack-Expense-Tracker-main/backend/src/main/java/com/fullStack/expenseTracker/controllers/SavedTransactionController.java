@@ -8,9 +8,14 @@ import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @CrossOrigin(origins = "http://localhost:3000")
 @RestController
@@ -29,9 +34,10 @@ public class SavedTransactionController {
 
     @GetMapping("/add")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(@Param("id") long id)
+    public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(@Param("id") long id,
+                                                                 @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date)
             throws UserServiceLogicException, TransactionNotFoundException {
-        return savedTransactionService.addSavedTransaction(id);
+        return savedTransactionService.addSavedTransaction(id, date);
     }
 
     @PutMapping("/")
@@ -57,9 +63,24 @@ public class SavedTransactionController {
 
     @GetMapping("/month")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(@Param("id") long id)
+    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(@Param("id") long id,
+                                                                              @RequestParam(value = "month", required = false) Integer month,
+                                                                              @RequestParam(value = "year", required = false) Integer year,
+                                                                              @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                              @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                              @RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
+                                                                              @RequestParam(value = "pageSize", defaultValue = "50") int pageSize)
+            throws UserServiceLogicException, UserNotFoundException {
+        return savedTransactionService.getAllTransactionsByUserAndMonth(id, month, year, from, to, pageNumber, pageSize);
+    }
+
+    @GetMapping("/calendar")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> getCalendar(@Param("id") long id,
+                                                             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
             throws UserServiceLogicException, UserNotFoundException {
-        return savedTransactionService.getAllTransactionsByUserAndMonth(id);
+        return savedTransactionService.getCalendar(id, from, to);
     }
 
     @GetMapping("/")
@@ -70,8 +91,23 @@ public class SavedTransactionController {
     }
 
     @GetMapping("/skip")
-    public ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(@Param("id") long id)
+    public ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(@Param("id") long id,
+                                                                  @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date)
             throws TransactionNotFoundException, UserServiceLogicException {
-        return savedTransactionService.skipSavedTransaction(id);
+        return savedTransactionService.skipSavedTransaction(id, date);
+    }
+
+    @PostMapping("/add/bulk")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> addSavedTransactions(@RequestBody List<Long> ids)
+            throws UserServiceLogicException {
+        return savedTransactionService.addSavedTransactions(ids);
+    }
+
+    @PostMapping("/skip/bulk")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> skipSavedTransactions(@RequestBody List<Long> ids)
+            throws UserServiceLogicException {
+        return savedTransactionService.skipSavedTransactions(ids);
     }
 }
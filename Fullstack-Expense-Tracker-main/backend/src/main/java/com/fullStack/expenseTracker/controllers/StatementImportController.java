@@ -0,0 +1,43 @@
+package com.fullStack.expenseTracker.controllers;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.services.StatementImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.query.Param;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequestMapping("/mypockit/transaction/import")
+public class StatementImportController {
+
+    @Autowired
+    StatementImportService statementImportService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> startImport(@RequestParam("email") String email,
+                                                         @RequestParam("file") MultipartFile file,
+                                                         @RequestParam(value = "format", required = false) String format,
+                                                         @RequestParam(value = "dateFormat", required = false) String dateFormat,
+                                                         @RequestParam(value = "expenseCategoryId", required = false) Integer expenseCategoryId,
+                                                         @RequestParam(value = "incomeCategoryId", required = false) Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        return statementImportService.startImport(email, file, format, dateFormat, expenseCategoryId, incomeCategoryId);
+    }
+
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getImportStatus(@Param("email") String email,
+                                                             @Param("importId") String importId)
+            throws TransactionServiceLogicException {
+
+        return statementImportService.getImportStatus(email, importId);
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @CrossOrigin(origins = "http://localhost:3000")
 @RestController
 @RequestMapping("/mypockit/transaction")
@@ -35,6 +37,14 @@ public class TransactionController {
         return transactionService.addTransaction(transactionRequestDto);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> addTransactions(@RequestBody List<TransactionRequestDto> transactionRequestDtos)
+            throws TransactionServiceLogicException {
+
+        return transactionService.addTransactions(transactionRequestDtos);
+    }
+
     @GetMapping("/getByUser")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(@Param("email") String email,
@@ -49,6 +59,20 @@ public class TransactionController {
         return transactionService.getTransactionsByUser(email, pageNumber, pageSize, searchKey, sortField, sortDirec, transactionType);
     }
 
+    @GetMapping("/getByUser/cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getTransactionsByUserCursor(@Param("email") String email,
+                                                                         @Param("cursor") String cursor,
+                                                                         @Param("pageSize") int pageSize,
+                                                                         @Param("searchKey") String searchKey,
+                                                                         @Param("sortField") String sortField,
+                                                                         @Param("sortDirec") String sortDirec,
+                                                                         @Param("transactionType") String transactionType)
+            throws TransactionServiceLogicException {
+
+        return transactionService.getTransactionsByUserCursor(email, cursor, pageSize, searchKey, sortField, sortDirec, transactionType);
+    }
+
     @GetMapping("/getById")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> getTransactionById(@Param("id") Long id)
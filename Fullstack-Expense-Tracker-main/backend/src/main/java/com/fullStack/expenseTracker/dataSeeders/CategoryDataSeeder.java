@@ -52,12 +52,9 @@ public class CategoryDataSeeder {
     @Transactional
     public void loadDefaultCategories(ContextRefreshedEvent event) {
         DEFAULT_CATEGORIES.forEach((transactionType, categories) -> {
-            TransactionType existingTransactionType = transactionTypeRepository.findByTransactionTypeName(transactionType);
-            TransactionType transactionTypeToUse = existingTransactionType != null
-                    ? existingTransactionType
-                    : transactionTypeRepository.save(new TransactionType(transactionType));
-
-            final TransactionType finalTransactionType = transactionTypeToUse;
+            // The types come from V13 with their pinned ids; saving one here would give it the next free id.
+            final TransactionType finalTransactionType = transactionTypeRepository.findById(transactionType.getId())
+                    .orElseThrow(() -> new IllegalStateException("Transaction type " + transactionType + " is missing"));
 
             categories.forEach(categoryName -> {
                 if (!categoryRepository.existsByCategoryNameAndTransactionType(categoryName, finalTransactionType)) {
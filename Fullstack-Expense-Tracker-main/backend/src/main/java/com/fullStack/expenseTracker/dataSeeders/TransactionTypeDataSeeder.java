@@ -9,23 +9,22 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
-
 @Component
 public class TransactionTypeDataSeeder {
     @Autowired
     private TransactionTypeRepository transactionTypeRepository;
 
+    // V13 inserts the types with their pinned ids. A database seeded before it must hold the same
+    // ids, or every report would swap expense and income.
     @EventListener
-    @Transactional
-    public void LoadTransactionTypes(ContextRefreshedEvent event) {
-
-        List<ETransactionType> transactionTypes = Arrays.stream(ETransactionType.values()).toList();
+    @Transactional(readOnly = true)
+    public void checkTransactionTypes(ContextRefreshedEvent event) {
 
-        for(ETransactionType eTransactionType: transactionTypes) {
-            if (!transactionTypeRepository.existsByTransactionTypeName(eTransactionType)) {
-                transactionTypeRepository.save(new TransactionType(eTransactionType));
+        for(ETransactionType eTransactionType: ETransactionType.values()) {
+            TransactionType transactionType = transactionTypeRepository.findByTransactionTypeName(eTransactionType);
+            if (transactionType == null || transactionType.getTransactionTypeId() != eTransactionType.getId()) {
+                throw new IllegalStateException("Transaction type " + eTransactionType + " must have id " + eTransactionType.getId()
+                        + " but has " + (transactionType == null ? "no row" : "id " + transactionType.getTransactionTypeId()));
             }
         }
 
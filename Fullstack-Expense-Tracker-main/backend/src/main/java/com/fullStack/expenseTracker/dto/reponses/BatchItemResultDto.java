@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchItemResultDto {
+
+    private int index;
+
+    private ApiResponseStatus status;
+
+    private Long id;
+
+    private String message;
+
+}
@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchResultDto {
+
+    private int total;
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchItemResultDto> results;
+
+}
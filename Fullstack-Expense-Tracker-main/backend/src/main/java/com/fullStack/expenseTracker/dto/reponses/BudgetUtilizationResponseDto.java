@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BudgetUtilizationResponseDto {
+
+    private int month;
+
+    private int year;
+
+    private double budget;
+
+    private double spent;
+
+    private double utilization;
+
+    private List<CategoryUtilizationDto> categories;
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryTotalDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private int transactionTypeId;
+
+    private double total;
+
+    private long noOfTransactions;
+}
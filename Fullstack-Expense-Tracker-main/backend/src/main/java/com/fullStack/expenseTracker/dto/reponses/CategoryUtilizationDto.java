@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryUtilizationDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private double budget;
+
+    private double spent;
+
+    private double utilization;
+}
@@ -0,0 +1,27 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class DashboardResponseDto {
+
+    private int month;
+
+    private int year;
+
+    private double totalIncome;
+
+    private double totalExpense;
+
+    private long noOfTransactions;
+
+    private double budget;
+
+    private List<CategoryTotalDto> categoryTotals;
+
+    private List<TransactionsMonthlySummaryDto> monthlySummary;
+}
@@ -0,0 +1,30 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.EExportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ExportJobResponseDto {
+
+    private String jobId;
+
+    private EExportFormat format;
+
+    private EExportStatus status;
+
+    private long sizeBytes;
+
+    private String message;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,25 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlatformStatsResponseDto {
+
+    private long totalUsers;
+
+    private long enabledUsers;
+
+    private long activeUsersThisMonth;
+
+    private long noOfTransactions;
+
+    private long noOfExpenseTransactions;
+
+    private long noOfIncomeTransactions;
+
+    private double totalExpense;
+
+    private double totalIncome;
+}
@@ -0,0 +1,27 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReportCacheStatsResponseDto {
+
+    private boolean enabled;
+
+    private int size;
+
+    private int maxEntries;
+
+    private long ttlMs;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRatio;
+
+    private long evictions;
+
+    private long expirations;
+}
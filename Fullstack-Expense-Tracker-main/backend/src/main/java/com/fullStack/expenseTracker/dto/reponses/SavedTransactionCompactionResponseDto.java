@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class SavedTransactionCompactionResponseDto {
+
+    private String mode;
+
+    private LocalDate cutoff;
+
+    private long reclaimedRows;
+
+    private int chunks;
+
+    private long durationMs;
+
+    private LocalDateTime finishedAt;
+}
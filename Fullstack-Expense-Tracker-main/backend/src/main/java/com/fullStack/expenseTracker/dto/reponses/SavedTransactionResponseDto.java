@@ -6,6 +6,8 @@ import jakarta.persistence.Enumerated;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.LocalDate;
+
 @Data
 @AllArgsConstructor
 public class SavedTransactionResponseDto {
@@ -22,5 +24,11 @@ public class SavedTransactionResponseDto {
     @Enumerated(EnumType.STRING)
     private ETransactionFrequency frequency;
 
+    private int recurrenceInterval;
+
+    private Integer dayOfMonth;
+
+    private LocalDate upcomingDate;
+
     private String dueInformation;
 }
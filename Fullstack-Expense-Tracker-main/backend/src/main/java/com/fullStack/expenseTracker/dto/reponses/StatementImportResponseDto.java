@@ -0,0 +1,36 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.EImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StatementImportResponseDto {
+
+    private String importId;
+
+    private String fileName;
+
+    private EImportStatus status;
+
+    private int progress;
+
+    private long rowsRead;
+
+    private long imported;
+
+    private long failed;
+
+    private List<ImportRowErrorDto> errors;
+
+    private String message;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+}
@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class TimeSeriesBucketDto {
+
+    private LocalDate start;
+
+    private LocalDate end;
+
+    private double total_expense;
+
+    private double total_income;
+}
@@ -0,0 +1,12 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryBudgetRequest {
+    long userId;
+    int categoryId;
+    double amount;
+}
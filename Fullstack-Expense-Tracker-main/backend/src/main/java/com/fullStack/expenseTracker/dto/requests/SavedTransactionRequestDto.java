@@ -24,4 +24,8 @@ public class SavedTransactionRequestDto {
 
     private LocalDate upcomingDate;
 
+    private Integer recurrenceInterval;
+
+    private Integer dayOfMonth;
+
 }
@@ -0,0 +1,6 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum ECompactionMode {
+    ARCHIVE,
+    DELETE
+}
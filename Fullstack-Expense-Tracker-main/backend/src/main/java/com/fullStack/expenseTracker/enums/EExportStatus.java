@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum EExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
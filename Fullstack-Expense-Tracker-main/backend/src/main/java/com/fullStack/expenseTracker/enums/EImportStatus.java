@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum EImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum ESavedTransactionMirrorMode {
+    SYNC,
+    ASYNC,
+    OFF
+}
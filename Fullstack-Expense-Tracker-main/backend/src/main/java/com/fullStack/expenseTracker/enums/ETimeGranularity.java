@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum ETimeGranularity {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR
+}
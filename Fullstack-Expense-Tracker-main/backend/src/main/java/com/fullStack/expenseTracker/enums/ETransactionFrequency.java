@@ -3,5 +3,7 @@ package com.fullStack.expenseTracker.enums;
 public enum ETransactionFrequency {
     ONE_TIME,
     DAILY,
-    MONTHLY
+    WEEKLY,
+    MONTHLY,
+    YEARLY
 }
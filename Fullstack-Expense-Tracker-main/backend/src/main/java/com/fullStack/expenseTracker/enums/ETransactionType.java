@@ -2,5 +2,18 @@ package com.fullStack.expenseTracker.enums;
 
 public enum ETransactionType {
     TYPE_EXPENSE,
-    TYPE_INCOME
+    TYPE_INCOME;
+
+    // transaction_type ids pinned by V13, so queries and caches can compare the id alone.
+    public static final int EXPENSE_ID = 1;
+
+    public static final int INCOME_ID = 2;
+
+    public int getId() {
+        return this == TYPE_INCOME ? INCOME_ID : EXPENSE_ID;
+    }
+
+    public static boolean isIncome(Integer transactionTypeId) {
+        return transactionTypeId != null && transactionTypeId == INCOME_ID;
+    }
 }
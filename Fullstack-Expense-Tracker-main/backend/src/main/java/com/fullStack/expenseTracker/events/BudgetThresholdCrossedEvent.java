@@ -0,0 +1,27 @@
+package com.fullStack.expenseTracker.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// Published when a transaction write takes a user's spending for a month to or past one of the
+// configured budget percentages; categoryId is null for the overall monthly budget.
+@Getter
+@ToString
+@AllArgsConstructor
+public class BudgetThresholdCrossedEvent {
+
+    private final long userId;
+
+    private final Integer categoryId;
+
+    private final int year;
+
+    private final int month;
+
+    private final int thresholdPercent;
+
+    private final double budget;
+
+    private final double spent;
+}
@@ -0,0 +1,26 @@
+package com.fullStack.expenseTracker.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published on every transaction write: before is null for inserts, after is null for deletes.
+@Getter
+@AllArgsConstructor
+public class TransactionChangedEvent {
+
+    private final TransactionSnapshot before;
+
+    private final TransactionSnapshot after;
+
+    public static TransactionChangedEvent created(TransactionSnapshot after) {
+        return new TransactionChangedEvent(null, after);
+    }
+
+    public static TransactionChangedEvent updated(TransactionSnapshot before, TransactionSnapshot after) {
+        return new TransactionChangedEvent(before, after);
+    }
+
+    public static TransactionChangedEvent deleted(TransactionSnapshot before) {
+        return new TransactionChangedEvent(before, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullStack.expenseTracker.events;
+
+import com.fullStack.expenseTracker.models.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionSnapshot {
+
+    private Long transactionId;
+
+    private Long userId;
+
+    private String userEmail;
+
+    private Integer categoryId;
+
+    private Integer transactionTypeId;
+
+    private String description;
+
+    private double amount;
+
+    private LocalDate date;
+
+    public static TransactionSnapshot of(Transaction transaction) {
+        // The user association is lazy; its id is always available, the email only once loaded.
+        return new TransactionSnapshot(
+                transaction.getTransactionId(),
+                transaction.getUser().getId(),
+                Hibernate.isInitialized(transaction.getUser()) ? transaction.getUser().getEmail() : null,
+                transaction.getCategory().getCategoryId(),
+                transaction.getCategory().getTransactionType().getTransactionTypeId(),
+                transaction.getDescription(),
+                transaction.getAmount(),
+                transaction.getDate()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullStack.expenseTracker.exports;
+
+import com.fullStack.expenseTracker.dto.reponses.ExportJobResponseDto;
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.EExportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// One queued, running or finished export. The result file lives in the export directory until
+// the job expires.
+@Getter
+public class ExportJob {
+
+    private final String id;
+
+    private final String email;
+
+    private final EExportFormat format;
+
+    private final Path file;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile EExportStatus status = EExportStatus.QUEUED;
+
+    private volatile long sizeBytes;
+
+    private volatile String message;
+
+    private volatile LocalDateTime finishedAt;
+
+    public ExportJob(String id, String email, EExportFormat format, Path file) {
+        this.id = id;
+        this.email = email;
+        this.format = format;
+        this.file = file;
+    }
+
+    public boolean isInFlight() {
+        return status == EExportStatus.QUEUED || status == EExportStatus.RUNNING;
+    }
+
+    public synchronized void start() {
+        status = EExportStatus.RUNNING;
+    }
+
+    public synchronized void complete(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+        this.status = EExportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void fail(String message) {
+        this.message = message;
+        this.status = EExportStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public ExportJobResponseDto toResponseDto(long retentionMinutes) {
+        LocalDateTime finished = finishedAt;
+        return new ExportJobResponseDto(id, format, status, sizeBytes, message, createdAt, finished,
+                finished == null ? null : finished.plusMinutes(retentionMinutes));
+    }
+}
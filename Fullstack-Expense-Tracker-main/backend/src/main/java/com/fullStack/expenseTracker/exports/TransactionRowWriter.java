@@ -0,0 +1,256 @@
+package com.fullStack.expenseTracker.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// Encodes raw export rows as CSV or NDJSON straight into one reusable UTF-8 byte buffer, which
+// is handed to the output stream whenever it fills. Apart from the decimal form of the amount a
+// row costs no intermediate Strings, so the export runs at the speed of the result set.
+public final class TransactionRowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Longest UTF-8 encoding of one code point.
+    private static final int MAX_CHAR_BYTES = 4;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String[] COLUMNS = {"date", "category", "type", "description", "amount"};
+
+    private final OutputStream out;
+
+    private final boolean csv;
+
+    private final String idColumn;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int length;
+
+    private TransactionRowWriter(OutputStream out, boolean csv, String idColumn) {
+        this.out = out;
+        this.csv = csv;
+        this.idColumn = idColumn;
+    }
+
+    public static TransactionRowWriter csv(OutputStream out) {
+        return new TransactionRowWriter(out, true, "transactionId");
+    }
+
+    public static TransactionRowWriter ndjson(OutputStream out) {
+        return ndjson(out, "transactionId");
+    }
+
+    // Rows whose id is not a transaction id, such as the plan occurrences of the saved transaction calendar.
+    public static TransactionRowWriter ndjson(OutputStream out, String idColumn) {
+        return new TransactionRowWriter(out, false, idColumn);
+    }
+
+    public void writeHeader() throws IOException {
+        if (!csv) {
+            return;
+        }
+        ascii(idColumn);
+        for (String column : COLUMNS) {
+            put((byte) ',');
+            ascii(column);
+        }
+        put((byte) '\n');
+    }
+
+    public void writeRow(long transactionId, LocalDate date, String category, String type,
+                         String description, double amount) throws IOException {
+        if (csv) {
+            number(transactionId);
+            put((byte) ',');
+            date(date);
+            put((byte) ',');
+            csvText(category);
+            put((byte) ',');
+            csvText(type);
+            put((byte) ',');
+            csvText(description);
+            put((byte) ',');
+            ascii(Double.isFinite(amount) ? decimal(amount) : "");
+        } else {
+            ascii("{\"");
+            ascii(idColumn);
+            ascii("\":");
+            number(transactionId);
+            ascii(",\"date\":");
+            if (date == null) {
+                ascii("null");
+            } else {
+                put((byte) '"');
+                date(date);
+                put((byte) '"');
+            }
+            ascii(",\"category\":");
+            jsonText(category);
+            ascii(",\"type\":");
+            jsonText(type);
+            ascii(",\"description\":");
+            jsonText(description);
+            ascii(",\"amount\":");
+            ascii(Double.isFinite(amount) ? decimal(amount) : "null");
+            put((byte) '}');
+        }
+        put((byte) '\n');
+    }
+
+    // Double.toString switches to exponent notation from ten million up (1.0E7).
+    private static String decimal(double amount) {
+        return BigDecimal.valueOf(amount).toPlainString();
+    }
+
+    public void flush() throws IOException {
+        if (length > 0) {
+            out.write(buffer, 0, length);
+            length = 0;
+        }
+        out.flush();
+    }
+
+    private void csvText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                put((byte) '"');
+            }
+            i += utf8(value, i) - 1;
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+    }
+
+    private void jsonText(String value) throws IOException {
+        if (value == null) {
+            ascii("null");
+            return;
+        }
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> ascii("\\\"");
+                case '\\' -> ascii("\\\\");
+                case '\n' -> ascii("\\n");
+                case '\r' -> ascii("\\r");
+                case '\t' -> ascii("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        ascii("\\u00");
+                        put(HEX[c >> 4]);
+                        put(HEX[c & 0xF]);
+                    } else {
+                        i += utf8(value, i) - 1;
+                    }
+                }
+            }
+        }
+        put((byte) '"');
+    }
+
+    // Writes the code point at index as UTF-8 and returns the number of chars it took, two for a
+    // surrogate pair; a lone surrogate becomes '?'.
+    private int utf8(String value, int index) throws IOException {
+        ensure(MAX_CHAR_BYTES);
+        char c = value.charAt(index);
+        if (c < 0x80) {
+            buffer[length++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[length++] = (byte) (0xC0 | (c >> 6));
+            buffer[length++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            int codePoint = Character.isHighSurrogate(c) && index + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(index + 1))
+                    ? Character.toCodePoint(c, value.charAt(index + 1)) : -1;
+            if (codePoint < 0) {
+                buffer[length++] = '?';
+                return 1;
+            }
+            buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            return 2;
+        } else {
+            buffer[length++] = (byte) (0xE0 | (c >> 12));
+            buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[length++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return 1;
+    }
+
+    private void date(LocalDate date) throws IOException {
+        if (date == null) {
+            return;
+        }
+        ensure(10);
+        digits(date.getYear(), 4);
+        buffer[length++] = '-';
+        digits(date.getMonthValue(), 2);
+        buffer[length++] = '-';
+        digits(date.getDayOfMonth(), 2);
+    }
+
+    private void digits(int value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[length + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += width;
+    }
+
+    private void number(long value) throws IOException {
+        ensure(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte swap = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = swap;
+        }
+    }
+
+    private void ascii(String value) throws IOException {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[length++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void put(byte b) throws IOException {
+        ensure(1);
+        buffer[length++] = b;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (length + bytes > buffer.length) {
+            out.write(buffer, 0, length);
+            length = 0;
+        }
+    }
+}
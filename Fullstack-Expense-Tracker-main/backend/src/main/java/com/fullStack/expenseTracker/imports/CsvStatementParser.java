@@ -0,0 +1,241 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Header driven CSV reader. Columns are matched by name, the delimiter (comma, semicolon or
+// tab) is taken from the header line, and quoted fields may contain delimiters and newlines.
+// Amounts come either from a signed amount column or from separate debit / credit columns.
+public class CsvStatementParser implements StatementParser {
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+            Map.entry("date", "date"),
+            Map.entry("transaction date", "date"),
+            Map.entry("posted date", "date"),
+            Map.entry("posting date", "date"),
+            Map.entry("booking date", "date"),
+            Map.entry("amount", "amount"),
+            Map.entry("debit", "debit"),
+            Map.entry("withdrawal", "debit"),
+            Map.entry("money out", "debit"),
+            Map.entry("credit", "credit"),
+            Map.entry("deposit", "credit"),
+            Map.entry("money in", "credit"),
+            Map.entry("description", "description"),
+            Map.entry("details", "description"),
+            Map.entry("memo", "description"),
+            Map.entry("payee", "description"),
+            Map.entry("narrative", "description"),
+            Map.entry("category", "category")
+    );
+
+    private static final int HEADER_PEEK_LIMIT = 8192;
+
+    private final DateTimeFormatter dateFormatter;
+
+    public CsvStatementParser(DateTimeFormatter dateFormatter) {
+        this.dateFormatter = dateFormatter;
+    }
+
+    @Override
+    public void parse(Reader reader, RowSink sink) throws IOException, InterruptedException {
+        BufferedReader in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        RecordReader records = new RecordReader(in, detectDelimiter(in));
+
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = COLUMN_ALIASES.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        if (!columns.containsKey("date") || !columns.containsKey("description")
+                || !(columns.containsKey("amount") || columns.containsKey("debit") || columns.containsKey("credit"))) {
+            sink.accept(StatementRow.failed(1, "Header must have date, description and amount (or debit / credit) columns!"));
+            return;
+        }
+
+        List<String> record;
+        while ((record = records.next()) != null) {
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            sink.accept(toRow(records.recordLine, record, columns));
+        }
+    }
+
+    private StatementRow toRow(long line, List<String> record, Map<String, Integer> columns) {
+        LocalDate date;
+        String rawDate = field(record, columns, "date");
+        try {
+            date = LocalDate.parse(rawDate, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return StatementRow.failed(line, "Invalid date '" + rawDate + "'");
+        }
+
+        Double amount;
+        try {
+            if (columns.containsKey("amount")) {
+                amount = parseAmount(field(record, columns, "amount"));
+            } else {
+                Double debit = parseAmount(field(record, columns, "debit"));
+                Double credit = parseAmount(field(record, columns, "credit"));
+                amount = debit == null && credit == null ? null
+                        : (credit == null ? 0 : Math.abs(credit)) - (debit == null ? 0 : Math.abs(debit));
+            }
+        } catch (NumberFormatException e) {
+            return StatementRow.failed(line, "Invalid amount");
+        }
+        if (amount == null || amount == 0) {
+            return StatementRow.failed(line, "Amount is required!");
+        }
+
+        String category = field(record, columns, "category");
+        return new StatementRow(line, date, amount, field(record, columns, "description"),
+                category.isEmpty() ? null : category, null);
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= record.size() ? "" : record.get(index).trim();
+    }
+
+    // Accepts "1,234.56", "1.234,56", "12,5", "1,234", "-12.50", "(12.50)" and currency symbols.
+    static Double parseAmount(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String value = raw.trim();
+        boolean negative = value.startsWith("(") && value.endsWith(")");
+        value = value.replaceAll("[^0-9.,\\-]", "");
+
+        int lastDot = value.lastIndexOf('.');
+        int lastComma = value.lastIndexOf(',');
+        if (lastDot >= 0 && lastComma >= 0) {
+            value = lastComma > lastDot
+                    ? value.replace(".", "").replace(',', '.')
+                    : value.replace(",", "");
+        } else if (lastComma >= 0) {
+            // A lone comma before one or two digits is a decimal comma; otherwise commas must
+            // separate groups of three digits, and anything else is refused rather than guessed.
+            if (value.matches("-?\\d*,\\d{1,2}")) {
+                value = value.replace(',', '.');
+            } else if (value.matches("-?\\d{1,3}(,\\d{3})+")) {
+                value = value.replace(",", "");
+            } else {
+                throw new NumberFormatException("Ambiguous amount: " + raw);
+            }
+        }
+        double amount = Double.parseDouble(value);
+        return negative ? -Math.abs(amount) : amount;
+    }
+
+    private static char detectDelimiter(BufferedReader in) throws IOException {
+        in.mark(HEADER_PEEK_LIMIT);
+        int commas = 0;
+        int semicolons = 0;
+        int tabs = 0;
+        boolean quoted = false;
+        for (int i = 0, c; i < HEADER_PEEK_LIMIT && (c = in.read()) != -1; i++) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && (c == '\n' || c == '\r')) {
+                break;
+            } else if (!quoted) {
+                commas += c == ',' ? 1 : 0;
+                semicolons += c == ';' ? 1 : 0;
+                tabs += c == '\t' ? 1 : 0;
+            }
+        }
+        in.reset();
+        if (semicolons > commas && semicolons >= tabs) {
+            return ';';
+        }
+        return tabs > commas ? '\t' : ',';
+    }
+
+    private static class RecordReader {
+
+        private final BufferedReader in;
+
+        private final char delimiter;
+
+        private long line = 1;
+
+        private long recordLine;
+
+        private boolean first = true;
+
+        RecordReader(BufferedReader in, char delimiter) {
+            this.in = in;
+            this.delimiter = delimiter;
+        }
+
+        List<String> next() throws IOException {
+            int c = in.read();
+            if (first && c == '\uFEFF') {
+                c = in.read();
+            }
+            first = false;
+            if (c == -1) {
+                return null;
+            }
+
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        in.mark(1);
+                        int next = in.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            in.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        in.mark(1);
+                        if (in.read() != '\n') {
+                            in.reset();
+                        }
+                    }
+                    line++;
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
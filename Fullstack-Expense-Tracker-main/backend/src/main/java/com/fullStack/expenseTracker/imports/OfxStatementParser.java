@@ -0,0 +1,101 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+// Reads the STMTTRN blocks of OFX 1.x (SGML, closing tags optional) and OFX 2.x (XML)
+// statements with a single-pass tag scanner; everything outside a transaction is skipped.
+public class OfxStatementParser implements StatementParser {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Override
+    public void parse(Reader reader, RowSink sink) throws IOException, InterruptedException {
+        long line = 1;
+        long transactionLine = 0;
+        boolean inTransaction = false;
+        String openTag = null;
+        StringBuilder text = new StringBuilder();
+        StringBuilder tag = new StringBuilder();
+        boolean inTag = false;
+
+        String posted = null;
+        String amount = null;
+        String name = null;
+        String memo = null;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                line++;
+            }
+            if (!inTag && c == '<') {
+                if (inTransaction && openTag != null) {
+                    String value = decode(text.toString().trim());
+                    switch (openTag) {
+                        case "DTPOSTED" -> posted = value;
+                        case "TRNAMT" -> amount = value;
+                        case "NAME" -> name = value;
+                        case "MEMO" -> memo = value;
+                        default -> { }
+                    }
+                }
+                openTag = null;
+                text.setLength(0);
+                tag.setLength(0);
+                inTag = true;
+            } else if (inTag && c == '>') {
+                inTag = false;
+                String tagName = tag.toString().trim().toUpperCase(Locale.ROOT);
+                if (tagName.equals("STMTTRN")) {
+                    inTransaction = true;
+                    transactionLine = line;
+                    posted = amount = name = memo = null;
+                } else if (tagName.equals("/STMTTRN")) {
+                    if (inTransaction) {
+                        sink.accept(toRow(transactionLine, posted, amount, name, memo));
+                    }
+                    inTransaction = false;
+                } else if (!tagName.startsWith("/") && !tagName.startsWith("?") && !tagName.startsWith("!")) {
+                    openTag = tagName;
+                }
+            } else if (inTag) {
+                tag.append((char) c);
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private static StatementRow toRow(long line, String posted, String amount, String name, String memo) {
+        LocalDate date;
+        try {
+            // DTPOSTED is YYYYMMDD optionally followed by a time and a time zone.
+            date = LocalDate.parse(posted == null || posted.length() < 8 ? "" : posted.substring(0, 8), OFX_DATE);
+        } catch (DateTimeParseException e) {
+            return StatementRow.failed(line, "Invalid date '" + posted + "'");
+        }
+
+        Double value;
+        try {
+            value = amount == null || amount.isBlank() ? null : Double.parseDouble(amount.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return StatementRow.failed(line, "Invalid amount '" + amount + "'");
+        }
+        if (value == null || value == 0) {
+            return StatementRow.failed(line, "Amount is required!");
+        }
+
+        String description = name != null && !name.isBlank() ? name : memo;
+        return new StatementRow(line, date, value, description == null ? "" : description, null, null);
+    }
+
+    private static String decode(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullStack.expenseTracker.imports;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Picks a category for a statement row. The direction of the money decides between expense
+// and income categories; an explicit category column wins, otherwise the longest category
+// name found as a whole word in the description is used.
+public class StatementCategorizer {
+
+    private final Map<String, Category> expenseByName = new HashMap<>();
+
+    private final Map<String, Category> incomeByName = new HashMap<>();
+
+    private final List<Map.Entry<Pattern, Category>> keywords;
+
+    public StatementCategorizer(List<Category> categories) {
+        for (Category category : categories) {
+            (isIncome(category) ? incomeByName : expenseByName)
+                    .putIfAbsent(category.getCategoryName().trim().toLowerCase(Locale.ROOT), category);
+        }
+        keywords = categories.stream()
+                .sorted(Comparator.comparingInt((Category c) -> c.getCategoryName().length()).reversed())
+                .map(c -> Map.entry(
+                        Pattern.compile("\\b" + Pattern.quote(c.getCategoryName().trim()) + "\\b", Pattern.CASE_INSENSITIVE),
+                        c))
+                .toList();
+    }
+
+    public Category categorize(StatementRow row) {
+        boolean income = row.getAmount() > 0;
+        if (row.getCategory() != null) {
+            Category named = (income ? incomeByName : expenseByName).get(row.getCategory().trim().toLowerCase(Locale.ROOT));
+            if (named != null) {
+                return named;
+            }
+        }
+        if (row.getDescription() != null) {
+            for (Map.Entry<Pattern, Category> keyword : keywords) {
+                if (isIncome(keyword.getValue()) == income && keyword.getKey().matcher(row.getDescription()).find()) {
+                    return keyword.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isIncome(Category category) {
+        return category.getTransactionType().getTransactionTypeName() == ETransactionType.TYPE_INCOME;
+    }
+}
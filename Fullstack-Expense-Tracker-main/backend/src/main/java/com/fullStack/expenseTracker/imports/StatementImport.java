@@ -0,0 +1,90 @@
+package com.fullStack.expenseTracker.imports;
+
+import com.fullStack.expenseTracker.dto.reponses.ImportRowErrorDto;
+import com.fullStack.expenseTracker.dto.reponses.StatementImportResponseDto;
+import com.fullStack.expenseTracker.enums.EImportStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one running or finished import, updated by the pipeline stages and read by the
+// progress endpoint. Only the first MAX_ERRORS row errors are kept; all of them are counted.
+@Getter
+public class StatementImport {
+
+    private static final int MAX_ERRORS = 1000;
+
+    private final String id;
+
+    private final String email;
+
+    private final String fileName;
+
+    private final long totalBytes;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+
+    private final AtomicLong imported = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+    private volatile EImportStatus status = EImportStatus.RUNNING;
+
+    private volatile String message;
+
+    private volatile LocalDateTime finishedAt;
+
+    public StatementImport(String id, String email, String fileName, long totalBytes) {
+        this.id = id;
+        this.email = email;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+    }
+
+    public void rowFailed(long lineNumber, String error) {
+        rowsFailed(lineNumber, 1, error);
+    }
+
+    public void rowsFailed(long lineNumber, int rows, String error) {
+        failed.addAndGet(rows);
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ImportRowErrorDto(lineNumber, error));
+            }
+        }
+    }
+
+    public synchronized void fail(String message) {
+        if (status == EImportStatus.RUNNING) {
+            this.status = EImportStatus.FAILED;
+            this.message = message;
+        }
+    }
+
+    public synchronized void finish() {
+        if (status == EImportStatus.RUNNING) {
+            status = EImportStatus.COMPLETED;
+        }
+        finishedAt = LocalDateTime.now();
+    }
+
+    public StatementImportResponseDto toResponseDto() {
+        int progress = status == EImportStatus.COMPLETED || totalBytes == 0 ? 100
+                : (int) Math.min(99, bytesRead.get() * 100 / totalBytes);
+        List<ImportRowErrorDto> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = new ArrayList<>(errors);
+        }
+        return new StatementImportResponseDto(id, fileName, status, progress, rowsRead.get(), imported.get(),
+                failed.get(), errorsCopy, message, startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Parsers read the statement sequentially and hand every row to the sink as soon as it is
+// complete, so memory use does not depend on the size of the upload.
+public interface StatementParser {
+
+    void parse(Reader reader, RowSink sink) throws IOException, InterruptedException;
+
+    @FunctionalInterface
+    interface RowSink {
+        void accept(StatementRow row) throws InterruptedException;
+    }
+}
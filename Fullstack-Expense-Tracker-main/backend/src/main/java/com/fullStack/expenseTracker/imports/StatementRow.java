@@ -0,0 +1,33 @@
+package com.fullStack.expenseTracker.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// One line of a bank statement as parsed; error is set when the line could not be read.
+// Amounts are signed: money out is negative, money in is positive.
+@Getter
+@AllArgsConstructor
+public class StatementRow {
+
+    private final long lineNumber;
+
+    private final LocalDate date;
+
+    private final Double amount;
+
+    private final String description;
+
+    private final String category;
+
+    private final String error;
+
+    public static StatementRow failed(long lineNumber, String error) {
+        return new StatementRow(lineNumber, null, null, null, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "category_budget", uniqueConstraints = @UniqueConstraint(
+        name = "uk_category_budget",
+        columnNames = {"user_id", "budget_year", "budget_month", "category_id"}
+))
+public class CategoryBudget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long budgetId;
+    private long userId;
+    private int categoryId;
+    @Column(name = "budget_year")
+    private int year;
+    @Column(name = "budget_month")
+    private int month;
+    private double amount;
+
+    public CategoryBudget(long userId, int categoryId, int year, int month, double amount) {
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.year = year;
+        this.month = month;
+        this.amount = amount;
+    }
+}
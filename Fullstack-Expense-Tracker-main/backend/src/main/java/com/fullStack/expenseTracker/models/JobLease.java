@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// The instance currently allowed to run a scheduled job, and until when.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_lease")
+public class JobLease {
+    @Id
+    private String jobName;
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
+}
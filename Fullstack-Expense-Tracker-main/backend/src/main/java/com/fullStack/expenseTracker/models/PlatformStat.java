@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One platform wide counter; amounts are stored in minor units.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "platform_stat")
+public class PlatformStat {
+    @Id
+    private String statKey;
+    private long statValue;
+}
@@ -15,8 +15,12 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 public class SavedTransaction {
+    // Ids come from saved_transaction_seq in pooled blocks of 50, so bulk saves such as the
+    // transaction mirrors cost one id round trip per block and go out as JDBC batches. Raising the
+    // block size on an existing table would hand out ids that are already taken.
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_transaction_seq")
+    @SequenceGenerator(name = "saved_transaction_seq", sequenceName = "saved_transaction_seq", allocationSize = 50)
     private long planId;
 
     private long userId;
@@ -33,4 +37,19 @@ public class SavedTransaction {
     private ETransactionFrequency frequency;
 
     private LocalDate upcomingDate;
+
+    // Every recurrenceInterval days, weeks, months or years of the frequency.
+    @Builder.Default
+    private int recurrenceInterval = 1;
+
+    // Day a MONTHLY or YEARLY plan falls on, clamped to shorter months. Set from the first upcoming
+    // date when a plan is saved without one, as that date moves and is clamped itself.
+    private Integer dayOfMonth;
+
+    // Written by SavedTransactionMirror for a recorded transaction; only these are compacted.
+    @Builder.Default
+    private boolean mirror = false;
+
+    @Version
+    private long version;
 }
@@ -0,0 +1,38 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Per user, month, type and category totals of the transaction table, kept current by
+// TransactionRollupWriter so reports never aggregate raw transactions.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transaction_rollup", uniqueConstraints = @UniqueConstraint(
+        name = "uk_transaction_rollup",
+        columnNames = {"user_id", "rollup_year", "rollup_month", "transaction_type_id", "category_id"}
+))
+public class TransactionRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+    private long userId;
+    @Column(name = "rollup_year")
+    private int year;
+    @Column(name = "rollup_month")
+    private int month;
+    private int transactionTypeId;
+    private int categoryId;
+    private double total;
+    @Column(name = "tx_count")
+    private long count;
+}
@@ -0,0 +1,79 @@
+package com.fullStack.expenseTracker.recurring;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+// Occurrences of many plans between two dates in date order. Every plan is a lazy cursor over its
+// own occurrences and a priority queue merges the cursors, so a year of daily plans is produced
+// one occurrence at a time and memory stays at one cursor per plan.
+public final class OccurrenceCalendar<T> implements Iterator<OccurrenceCalendar.Occurrence<T>> {
+
+    public record Occurrence<T>(LocalDate date, T plan) {
+    }
+
+    private final PriorityQueue<Cursor<T>> queue = new PriorityQueue<>(
+            Comparator.<Cursor<T>, LocalDate>comparing(c -> c.date).thenComparingInt(c -> c.order));
+
+    private final LocalDate to;
+
+    // Plans with equal dates come out in the order they were given.
+    public OccurrenceCalendar(List<T> plans, Function<T, RecurrenceRule> rule, Function<T, LocalDate> anchor,
+                              LocalDate from, LocalDate to) {
+        this.to = to;
+        for (int i = 0; i < plans.size(); i++) {
+            T plan = plans.get(i);
+            RecurrenceRule planRule = rule.apply(plan);
+            LocalDate planAnchor = anchor.apply(plan);
+            long index = planRule.firstIndexFrom(planAnchor, from);
+            if (index >= 0) {
+                offer(new Cursor<>(plan, planRule, planAnchor, i), index);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public Occurrence<T> next() {
+        Cursor<T> cursor = queue.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        Occurrence<T> occurrence = new Occurrence<>(cursor.date, cursor.plan);
+        offer(cursor, cursor.index + 1);
+        return occurrence;
+    }
+
+    private void offer(Cursor<T> cursor, long index) {
+        LocalDate date = cursor.rule.occurrence(cursor.anchor, index);
+        if (date != null && !date.isAfter(to)) {
+            cursor.index = index;
+            cursor.date = date;
+            queue.add(cursor);
+        }
+    }
+
+    private static final class Cursor<T> {
+        private final T plan;
+        private final RecurrenceRule rule;
+        private final LocalDate anchor;
+        private final int order;
+        private long index;
+        private LocalDate date;
+
+        private Cursor(T plan, RecurrenceRule rule, LocalDate anchor, int order) {
+            this.plan = plan;
+            this.rule = rule;
+            this.anchor = anchor;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fullStack.expenseTracker.recurring;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// Occurrence dates of a saved transaction plan: every interval days, weeks, months or years,
+// optionally pinned to a day of the month that is clamped to shorter months. The anchor of a plan
+// is its upcoming date, which moves on every posting and may itself be clamped, so only the
+// pinned day keeps a plan due on the 31st at month ends after February.
+public record RecurrenceRule(ETransactionFrequency frequency, int interval, Integer dayOfMonth) {
+
+    public RecurrenceRule {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        if (dayOfMonth != null) {
+            if (frequency != ETransactionFrequency.MONTHLY && frequency != ETransactionFrequency.YEARLY) {
+                throw new IllegalArgumentException("A day of month only applies to monthly and yearly plans");
+            }
+            if (dayOfMonth < 1 || dayOfMonth > 31) {
+                throw new IllegalArgumentException("Day of month must be between 1 and 31");
+            }
+        }
+    }
+
+    public static RecurrenceRule of(ETransactionFrequency frequency) {
+        return new RecurrenceRule(frequency, 1, null);
+    }
+
+    public static RecurrenceRule of(SavedTransaction plan) {
+        return new RecurrenceRule(plan.getFrequency(), Math.max(plan.getRecurrenceInterval(), 1), plan.getDayOfMonth());
+    }
+
+    // The index-th occurrence after anchor, which is occurrence 0; null when the plan has no more.
+    public LocalDate occurrence(LocalDate anchor, long index) {
+        if (index == 0) {
+            return anchor;
+        }
+        if (anchor == null || frequency == null) {
+            return null;
+        }
+        long steps = index * interval;
+        return switch (frequency) {
+            case DAILY -> anchor.plusDays(steps);
+            case WEEKLY -> anchor.plusWeeks(steps);
+            case MONTHLY -> pinned(anchor.plusMonths(steps));
+            case YEARLY -> pinned(anchor.plusYears(steps));
+            case ONE_TIME -> null;
+        };
+    }
+
+    public LocalDate next(LocalDate date) {
+        return occurrence(date, 1);
+    }
+
+    // Occurrences from anchor up to and including today, at most max of them.
+    public List<LocalDate> dueDates(LocalDate anchor, LocalDate today, int max) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < max; i++) {
+            LocalDate date = occurrence(anchor, i);
+            if (date == null || date.isAfter(today)) {
+                break;
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    // Index of the first occurrence on or after from, found without walking every earlier one;
+    // -1 when there is none.
+    public long firstIndexFrom(LocalDate anchor, LocalDate from) {
+        if (anchor == null) {
+            return -1;
+        }
+        if (!anchor.isBefore(from)) {
+            return 0;
+        }
+        if (frequency == null) {
+            return -1;
+        }
+        ChronoUnit unit = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+            case YEARLY -> ChronoUnit.YEARS;
+            case ONE_TIME -> null;
+        };
+        if (unit == null) {
+            return -1;
+        }
+        // Pinning moves a date by less than a month, so the estimate is at most one step late.
+        long index = Math.max(unit.between(anchor, from) / interval - 1, 0);
+        while (occurrence(anchor, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+
+    private LocalDate pinned(LocalDate date) {
+        if (dayOfMonth == null) {
+            return date;
+        }
+        return date.withDayOfMonth(Math.min(dayOfMonth, date.lengthOfMonth()));
+    }
+}
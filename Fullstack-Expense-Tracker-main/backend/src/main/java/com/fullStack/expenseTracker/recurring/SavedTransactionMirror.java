@@ -0,0 +1,131 @@
+package com.fullStack.expenseTracker.recurring;
+
+import com.fullStack.expenseTracker.enums.ESavedTransactionMirrorMode;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Writes the ONE_TIME saved transaction that mirrors every recorded transaction. SYNC writes it in
+// the recording database transaction, ASYNC queues it once that transaction commits and writes the
+// queue in batches from a background flush, and OFF stops mirroring.
+@Component
+@Slf4j
+public class SavedTransactionMirror {
+
+    private static final int FLUSH_BATCH = 500;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.saved.mirror.mode:SYNC}")
+    private ESavedTransactionMirrorMode mode;
+
+    @Value("${app.saved.mirror.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<SavedTransaction> queue;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void mirror(List<Transaction> transactions) {
+        switch (mode) {
+            case SYNC -> savedTransactionRepository.saveAll(toMirrors(transactions));
+            case ASYNC -> {
+                List<SavedTransaction> mirrors = toMirrors(transactions);
+                afterCommit(() -> enqueue(mirrors));
+            }
+            case OFF -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.saved.mirror.flush-ms:1000}")
+    public synchronized void flush() {
+        List<SavedTransaction> batch = new ArrayList<>(FLUSH_BATCH);
+        // A full queue flushes from afterCommit, where the committed transaction is still bound and
+        // a joining write would never commit, so every batch runs in a transaction of its own.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        while (queue.drainTo(batch, FLUSH_BATCH) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> savedTransactionRepository.saveAll(batch));
+            } catch (RuntimeException e) {
+                // Mirrors are a convenience copy; losing a batch must not stop the rest of the queue.
+                log.error("Failed to write {} saved transaction mirrors: {}", batch.size(), e.getMessage(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    public int pending() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    // A full queue is written by the caller rather than dropping mirrors or blocking on the flush.
+    private void enqueue(List<SavedTransaction> mirrors) {
+        for (SavedTransaction mirror : mirrors) {
+            while (!queue.offer(mirror)) {
+                flush();
+            }
+        }
+    }
+
+    private static List<SavedTransaction> toMirrors(List<Transaction> transactions) {
+        return transactions.stream().map(SavedTransactionMirror::toMirror).toList();
+    }
+
+    private static SavedTransaction toMirror(Transaction transaction) {
+        return SavedTransaction.builder()
+                .userId(transaction.getUser().getId())
+                .transactionTypeId(transaction.getCategory().getTransactionType().getTransactionTypeId())
+                .categoryId(transaction.getCategory().getCategoryId())
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .frequency(ETransactionFrequency.ONE_TIME)
+                .upcomingDate(transaction.getDate())
+                .mirror(true)
+                .build();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.analytics.TransactionAnalyticsCache;
+import com.fullStack.expenseTracker.dto.reponses.ReportCacheStatsResponseDto;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Results of report reads, keyed by the read, its arguments and the user's data version. Every
+// committed transaction, saved transaction or budget write of a user bumps that user's version and
+// category changes bump a global one, so a write never needs to know which results it affects:
+// the old entries are simply never looked up again and age out by size or TTL. Cached values are
+// shared between callers and must not be modified.
+// The versions live in this JVM only. Writes served by another application instance do not bump
+// them, so with several instances a result can be stale for up to the TTL; that is why the TTL is
+// short. Run a single instance, or disable the cache, where reports must reflect every write at once.
+@Component
+public class ReportResultCache {
+
+    @Autowired
+    private TransactionAnalyticsCache transactionAnalyticsCache;
+
+    @Value("${app.report.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.report.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.report.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    // Access ordered, so iteration starts at the least recently used entry. Guarded by itself.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final Map<Long, Long> userVersions = new ConcurrentHashMap<>();
+
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+        T load() throws E;
+    }
+
+    private record Key(long userId, long userVersion, long globalVersion, String report, List<Object> args) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    // The cached result of the report for the user and arguments, loading and caching it on a
+    // miss. Failed loads are not cached.
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T get(Long userId, String report, List<Object> args, Loader<T, E> loader) throws E {
+        if (!enabled || userId == null) {
+            return loader.load();
+        }
+        Key key = new Key(userId, userVersions.getOrDefault(userId, 0L), globalVersion.get(), report, args);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() - now > 0) {
+                    hits.increment();
+                    return (T) entry.value();
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        T value = loader.load();
+        // A result computed across a write may predate it; it would never be read again anyway.
+        if (value != null && key.userVersion() == userVersions.getOrDefault(userId, 0L)
+                && key.globalVersion() == globalVersion.get()) {
+            put(key, new Entry(value, System.nanoTime() + ttlMs * 1_000_000));
+        }
+        return value;
+    }
+
+    public <T, E extends Exception> T getByEmail(String email, String report, List<Object> args, Loader<T, E> loader) throws E {
+        Long userId = enabled && email != null ? transactionAnalyticsCache.userId(email) : null;
+        return userId == null ? loader.load() : get(userId, report, args, loader);
+    }
+
+    // Runs after the analytics snapshots are patched, so no result read from an unpatched
+    // snapshot is cached under the new version.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (event.getBefore() != null) {
+            bumpNow(event.getBefore().getUserId());
+        }
+        if (event.getAfter() != null) {
+            bumpNow(event.getAfter().getUserId());
+        }
+    }
+
+    // Retires the user's results once the current transaction, if any, has committed.
+    public void userChanged(Long userId) {
+        afterCommit(() -> bumpNow(userId));
+    }
+
+    // Retires every user's results, for changes such as category renames.
+    public void allChanged() {
+        afterCommit(globalVersion::incrementAndGet);
+    }
+
+    public ReportCacheStatsResponseDto stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        return new ReportCacheStatsResponseDto(
+                enabled,
+                size,
+                maxEntries,
+                ttlMs,
+                hitCount,
+                missCount,
+                hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount),
+                evictions.sum(),
+                expirations.sum()
+        );
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void bumpNow(Long userId) {
+        if (userId != null) {
+            userVersions.merge(userId, 1L, Long::sum);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            Iterator<Key> iterator = entries.keySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                if (!iterator.next().equals(key)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+}
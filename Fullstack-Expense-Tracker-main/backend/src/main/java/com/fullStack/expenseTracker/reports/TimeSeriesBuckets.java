@@ -0,0 +1,103 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesBucketDto;
+import com.fullStack.expenseTracker.enums.ETimeGranularity;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+// Gap-filled income and expense totals over consecutive calendar periods. Buckets are whole
+// periods (weeks start on Monday), so the requested range is widened to the first and last
+// bucket it touches. Totals are folded in by date, which keeps the work proportional to the
+// number of grouped rows and buckets rather than raw transactions.
+public final class TimeSeriesBuckets {
+
+    private final ETimeGranularity granularity;
+
+    private final LocalDate first;
+
+    private final double[] expense;
+
+    private final double[] income;
+
+    public TimeSeriesBuckets(ETimeGranularity granularity, LocalDate from, LocalDate to) {
+        this.granularity = granularity;
+        this.first = align(granularity, from);
+        int size = (int) count(granularity, from, to);
+        this.expense = new double[size];
+        this.income = new double[size];
+    }
+
+    public static long count(ETimeGranularity granularity, LocalDate from, LocalDate to) {
+        return unit(granularity).between(align(granularity, from), align(granularity, to)) + 1;
+    }
+
+    // First day covered by the buckets.
+    public LocalDate start() {
+        return first;
+    }
+
+    // Day after the last bucket, for half-open range queries.
+    public LocalDate endExclusive() {
+        return first.plus(expense.length, unit(granularity));
+    }
+
+    // Epoch day of each bucket start followed by the day after the last bucket.
+    public int[] boundaries() {
+        ChronoUnit unit = unit(granularity);
+        int[] bounds = new int[expense.length + 1];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = (int) first.plus(i, unit).toEpochDay();
+        }
+        return bounds;
+    }
+
+    // Adds a total of the given transaction type (1 = expense, 2 = income) to the bucket holding
+    // the date; dates outside the buckets are ignored.
+    public void add(LocalDate date, int transactionTypeId, double total) {
+        long index = unit(granularity).between(first, align(granularity, date));
+        if (index < 0 || index >= expense.length) {
+            return;
+        }
+        if (transactionTypeId == ETransactionType.INCOME_ID) {
+            income[(int) index] += total;
+        } else {
+            expense[(int) index] += total;
+        }
+    }
+
+    public List<TimeSeriesBucketDto> toList() {
+        ChronoUnit unit = unit(granularity);
+        List<TimeSeriesBucketDto> buckets = new ArrayList<>(expense.length);
+        LocalDate start = first;
+        for (int i = 0; i < expense.length; i++) {
+            LocalDate next = start.plus(1, unit);
+            buckets.add(new TimeSeriesBucketDto(start, next.minusDays(1), expense[i], income[i]));
+            start = next;
+        }
+        return buckets;
+    }
+
+    private static LocalDate align(ETimeGranularity granularity, LocalDate date) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    private static ChronoUnit unit(ETimeGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+            case YEAR -> ChronoUnit.YEARS;
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// Keeps transaction_rollup in step with the transaction table. Listens synchronously, so the
+// rollup rows are written inside the same database transaction as the change itself. Deltas
+// are summed per rollup row and written just before commit, which turns a batch of hundreds
+// of inserts into one upsert per (user, month, type, category). Both the deltas and the
+// rebuild first lock the transaction_rollup_lock stripes of their users, so a rebuild never
+// drops a delta committed while it runs, nor counts one twice.
+@Component
+@Slf4j
+public class TransactionRollupWriter {
+
+    // Rows seeded into transaction_rollup_lock by V10.
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Map<RollupKey, Delta> deltas = pendingDeltas();
+        if (event.getBefore() != null) {
+            add(deltas, event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            add(deltas, event.getAfter(), 1);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The stripe lock only means something inside a database transaction.
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> writeDeltas(deltas));
+        }
+    }
+
+    // Full recompute from the transaction table; also repairs drift from floating point sums.
+    // Each user is recomputed in its own short transaction under that user's stripe lock; read
+    // committed keeps MySQL from share locking the transaction rows the insert selects.
+    @Scheduled(cron = "${app.report.rollup.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        List<Long> userIds = transactionRollupRepository.findRebuildUserIds();
+        int rows = 0;
+        for (long userId : userIds) {
+            Integer userRows = transactionTemplate.execute(status -> {
+                transactionRollupRepository.lockStripes(List.of(stripe(userId)));
+                transactionRollupRepository.deleteByUser(userId);
+                return transactionRollupRepository.insertFromTransactionsByUser(userId);
+            });
+            rows += userRows == null ? 0 : userRows;
+        }
+        log.info("Rebuilt transaction rollup with {} rows for {} users in {} ms",
+                rows, userIds.size(), System.currentTimeMillis() - started);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (transactionRollupRepository.count() == 0 && transactionRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private Map<RollupKey, Delta> pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new LinkedHashMap<>();
+        }
+        @SuppressWarnings("unchecked")
+        Map<RollupKey, Delta> deltas = (Map<RollupKey, Delta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<RollupKey, Delta> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeDeltas(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionRollupWriter.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    private void writeDeltas(Map<RollupKey, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        transactionRollupRepository.lockStripes(deltas.keySet().stream()
+                .map(key -> stripe(key.userId))
+                .collect(Collectors.toCollection(TreeSet::new)));
+        deltas.forEach((key, delta) -> {
+            if (delta.count != 0 || delta.total != 0) {
+                transactionRollupRepository.addDelta(key.userId, key.year, key.month,
+                        key.transactionTypeId, key.categoryId, delta.total, delta.count);
+            }
+        });
+        deltas.clear();
+    }
+
+    private static int stripe(long userId) {
+        return Math.floorMod(userId, LOCK_STRIPES);
+    }
+
+    private static void add(Map<RollupKey, Delta> deltas, TransactionSnapshot snapshot, int sign) {
+        RollupKey key = new RollupKey(snapshot.getUserId(), snapshot.getDate().getYear(),
+                snapshot.getDate().getMonthValue(), snapshot.getTransactionTypeId(), snapshot.getCategoryId());
+        Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+        delta.total += sign * snapshot.getAmount();
+        delta.count += sign;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class RollupKey {
+        private final long userId;
+        private final int year;
+        private final int month;
+        private final int transactionTypeId;
+        private final int categoryId;
+    }
+
+    private static class Delta {
+        private double total;
+        private long count;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Writes the transaction export as XLSX with a streaming workbook: only a small window of rows
+// is kept on the heap, older rows are flushed to a compressed temp file and the finished sheet
+// is copied straight to the output. Column widths are taken from the first rows instead of
+// autosizing, which would rescan every cell.
+public final class TransactionSpreadsheetWriter {
+
+    static final int ROW_WINDOW = 100;
+
+    static final int WIDTH_SAMPLE_ROWS = 1000;
+
+    private static final int MAX_COLUMN_CHARS = 60;
+
+    private static final String[] HEADERS = {"Date", "Category", "Description", "Amount"};
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private TransactionSpreadsheetWriter() {
+    }
+
+    public static void write(Stream<TransactionResponseDto> transactions, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Transactions");
+            int[] widths = new int[HEADERS.length];
+
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+                widths[i] = HEADERS[i].length();
+            }
+
+            int rowIdx = 1;
+            Iterator<TransactionResponseDto> rows = transactions.iterator();
+            while (rows.hasNext()) {
+                TransactionResponseDto t = rows.next();
+                String date = t.getDate() != null ? t.getDate().format(DATE_FORMAT) : "";
+                String category = t.getCategoryName() != null ? t.getCategoryName() : "";
+                String description = t.getDescription() != null ? t.getDescription() : "";
+
+                Row row = sheet.createRow(rowIdx);
+                row.createCell(0).setCellValue(date);
+                row.createCell(1).setCellValue(category);
+                row.createCell(2).setCellValue(description);
+                row.createCell(3).setCellValue(t.getAmount());
+
+                if (rowIdx <= WIDTH_SAMPLE_ROWS) {
+                    widths[0] = Math.max(widths[0], date.length());
+                    widths[1] = Math.max(widths[1], category.length());
+                    widths[2] = Math.max(widths[2], description.length());
+                    widths[3] = Math.max(widths[3], String.valueOf(t.getAmount()).length());
+                }
+                rowIdx++;
+            }
+
+            // Column definitions live in the sheet header, so widths can still be set after the
+            // rows have been flushed.
+            for (int i = 0; i < HEADERS.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(widths[i], MAX_COLUMN_CHARS) + 2) * 256);
+            }
+
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.CategoryBudget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryBudgetRepository extends JpaRepository<CategoryBudget, Long> {
+    CategoryBudget findByUserIdAndCategoryIdAndYearAndMonth(long userId, int categoryId, int year, int month);
+
+    List<CategoryBudget> findByUserIdAndYearAndMonth(long userId, int year, int month);
+}
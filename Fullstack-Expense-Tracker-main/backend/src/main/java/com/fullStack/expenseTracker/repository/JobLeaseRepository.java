@@ -0,0 +1,33 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // Takes the lease when it has expired or is already ours; returns 0 when another instance holds it.
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_owner = :owner, lease_until = :leaseUntil " +
+            "WHERE job_name = :jobName AND (lease_until < :now OR lease_owner = :owner)", nativeQuery = true)
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Extends a lease that is still ours; returns 0 once it has run out.
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_until = :leaseUntil " +
+            "WHERE job_name = :jobName AND lease_owner = :owner AND lease_until >= :now", nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_until = :now WHERE job_name = :jobName AND lease_owner = :owner",
+            nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.PlatformStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlatformStatRepository extends JpaRepository<PlatformStat, String> {
+
+    // Additive, so several application instances can flush into the same rows.
+    @Modifying
+    @Query(value = "UPDATE platform_stat SET stat_value = stat_value + :delta WHERE stat_key = :statKey", nativeQuery = true)
+    int addDelta(@Param("statKey") String statKey, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE platform_stat SET stat_value = :statValue WHERE stat_key = :statKey", nativeQuery = true)
+    int setValue(@Param("statKey") String statKey, @Param("statValue") long statValue);
+}
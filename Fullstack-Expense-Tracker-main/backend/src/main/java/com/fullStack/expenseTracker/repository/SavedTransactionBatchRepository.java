@@ -0,0 +1,59 @@
+package com.fullStack.expenseTracker.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+// The claim of SavedTransactionRepository.claimOccurrence for many plans at once, sent as one JDBC
+// batch whose update counts tell, plan by plan, whether the claim was won.
+@Repository
+public class SavedTransactionBatchRepository {
+
+    private static final String CLAIM_SQL = "UPDATE saved_transaction SET upcoming_date = ?, version = version + 1 " +
+            "WHERE plan_id = ? AND upcoming_date = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Whether each claim won. Callers pass the plans in id order, so concurrent batches lock their
+    // rows in the same order.
+    public boolean[] claimAll(List<Claim> claims) {
+        boolean[] won = new boolean[claims.size()];
+        if (claims.isEmpty()) {
+            return won;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(CLAIM_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Claim claim = claims.get(i);
+                if (claim.next() == null) {
+                    ps.setNull(1, Types.DATE);
+                } else {
+                    ps.setDate(1, Date.valueOf(claim.next()));
+                }
+                ps.setLong(2, claim.planId());
+                ps.setDate(3, Date.valueOf(claim.date()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return claims.size();
+            }
+        });
+        for (int i = 0; i < won.length; i++) {
+            won[i] = counts[i] == 1;
+        }
+        return won;
+    }
+
+    public record Claim(long planId, LocalDate date, LocalDate next) {
+    }
+}
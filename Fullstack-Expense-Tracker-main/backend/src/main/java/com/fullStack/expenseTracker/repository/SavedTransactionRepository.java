@@ -1,12 +1,71 @@
 package com.fullStack.expenseTracker.repository;
 
 import com.fullStack.expenseTracker.models.SavedTransaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SavedTransactionRepository extends JpaRepository<SavedTransaction, Long> {
     List<SavedTransaction> findByUserIdOrderByUpcomingDateAsc(long userId);
+
+    // Plans of one user due in [from, to) with their category names, read along
+    // idx_saved_transaction_user_upcoming, so a page costs its own rows and no per row lookups.
+    @Query(value = "SELECT s, c.categoryName FROM SavedTransaction s JOIN Category c ON c.categoryId = s.categoryId " +
+            "WHERE s.userId = :userId AND s.upcomingDate >= :from AND s.upcomingDate < :to " +
+            "ORDER BY s.upcomingDate, s.planId",
+            countQuery = "SELECT COUNT(s) FROM SavedTransaction s " +
+                    "WHERE s.userId = :userId AND s.upcomingDate >= :from AND s.upcomingDate < :to")
+    Page<Object[]> findWithCategoryNameByUserBetween(@Param("userId") long userId, @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to, Pageable pageable);
+
+    // Moves a plan past the occurrence due on date. Only one of several concurrent or repeated claims
+    // of the same occurrence still finds that date, so only one of them gets a row back.
+    @Modifying
+    @Query("UPDATE SavedTransaction s SET s.upcomingDate = :next, s.version = s.version + 1 " +
+            "WHERE s.planId = :planId AND s.upcomingDate = :date")
+    int claimOccurrence(@Param("planId") long planId, @Param("date") LocalDate date, @Param("next") LocalDate next);
+
+    // Plans of one user that can fall on or before to, with their category and type names, for the
+    // calendar. ONE_TIME plans before from, most of them mirrors of past transactions, are left out.
+    @Query("SELECT s, c.categoryName, t.transactionTypeName FROM SavedTransaction s " +
+            "JOIN Category c ON c.categoryId = s.categoryId JOIN c.transactionType t " +
+            "WHERE s.userId = :userId AND s.upcomingDate <= :to " +
+            "AND (s.frequency <> com.fullStack.expenseTracker.enums.ETransactionFrequency.ONE_TIME OR s.upcomingDate >= :from) " +
+            "ORDER BY s.upcomingDate, s.planId")
+    List<Object[]> findCalendarPlansByUser(@Param("userId") long userId, @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    // Next chunk of due plans of one frequency after the (upcoming_date, plan_id) cursor, read in
+    // idx_saved_transaction_due order so every chunk is a short range scan.
+    @Query(value = "SELECT * FROM saved_transaction WHERE frequency = :frequency AND upcoming_date <= :today " +
+            "AND (upcoming_date > :afterDate OR (upcoming_date = :afterDate AND plan_id > :afterId)) " +
+            "ORDER BY upcoming_date, plan_id LIMIT :limit", nativeQuery = true)
+    List<SavedTransaction> findDueChunk(@Param("frequency") String frequency, @Param("today") LocalDate today,
+                                        @Param("afterDate") LocalDate afterDate, @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+
+    // Past transaction mirrors, oldest first. Compacted rows leave the table, so every chunk reads from the start.
+    @Query(value = "SELECT plan_id FROM saved_transaction WHERE frequency = 'ONE_TIME' AND mirror = TRUE " +
+            "AND upcoming_date < :cutoff ORDER BY upcoming_date, plan_id LIMIT :limit", nativeQuery = true)
+    List<Long> findCompactableIds(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO saved_transaction_archive (plan_id, amount, category_id, transaction_type_id, " +
+            "upcoming_date, user_id, description, frequency, archived_at) " +
+            "SELECT plan_id, amount, category_id, transaction_type_id, upcoming_date, user_id, description, " +
+            "frequency, :archivedAt FROM saved_transaction WHERE plan_id IN (:planIds)", nativeQuery = true)
+    int archiveByPlanIds(@Param("planIds") List<Long> planIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM saved_transaction WHERE plan_id IN (:planIds)", nativeQuery = true)
+    int deleteByPlanIds(@Param("planIds") List<Long> planIds);
 }
@@ -0,0 +1,61 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.Transaction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+// Transaction ids are IDENTITY generated, which stops Hibernate from batching inserts,
+// so bulk paths write through plain JDBC batches and read the generated keys back.
+@Repository
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transaction (user_id, category_id, description, amount, date) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Transaction transaction = transactions.get(i);
+                        ps.setLong(1, transaction.getUser().getId());
+                        ps.setInt(2, transaction.getCategory().getCategoryId());
+                        ps.setString(3, transaction.getDescription());
+                        ps.setDouble(4, transaction.getAmount());
+                        ps.setDate(5, Date.valueOf(transaction.getDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return transactions.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < transactions.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            transactions.get(i).setTransactionId(((Number) key).longValue());
+        }
+    }
+}
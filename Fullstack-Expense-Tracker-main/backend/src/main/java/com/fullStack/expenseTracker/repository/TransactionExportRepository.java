@@ -0,0 +1,74 @@
+package com.fullStack.expenseTracker.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+// Raw export reads go straight from a forward-only JDBC cursor to the caller, one row at a
+// time, without mapping entities or DTOs. With useCursorFetch the MySQL driver pulls
+// FETCH_SIZE rows per round trip instead of buffering the whole result.
+@Repository
+public class TransactionExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // Same order as the other exports: newest first.
+    private static final String EXPORT_SQL =
+            "SELECT t.transaction_id, t.date, c.category_name, tt.transaction_type_name, t.description, t.amount " +
+            "FROM transaction t " +
+            "JOIN users u ON u.id = t.user_id " +
+            "JOIN category c ON c.category_id = t.category_id " +
+            "JOIN transaction_type tt ON tt.transaction_type_id = c.transaction_type_id " +
+            "WHERE u.email = ? " +
+            "ORDER BY t.date DESC, t.transaction_id DESC";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void streamByUserEmail(String email, ExportRowHandler handler) throws IOException {
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setString(1, email);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    handler.row(
+                            rs.getLong(1),
+                            rs.getObject(2, LocalDate.class),
+                            rs.getString(3),
+                            typeLabel(rs.getString(4)),
+                            rs.getString(5),
+                            rs.getDouble(6)
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String typeLabel(String typeName) {
+        if ("TYPE_INCOME".equals(typeName)) {
+            return "income";
+        }
+        return "TYPE_EXPENSE".equals(typeName) ? "expense" : typeName;
+    }
+
+    @FunctionalInterface
+    public interface ExportRowHandler {
+        void row(long transactionId, LocalDate date, String category, String type,
+                 String description, double amount) throws IOException;
+    }
+}
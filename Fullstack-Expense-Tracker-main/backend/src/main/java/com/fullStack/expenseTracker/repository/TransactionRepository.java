@@ -1,76 +1,126 @@
 package com.fullStack.expenseTracker.repository;
 
+import com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
 import com.fullStack.expenseTracker.models.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
-            "u.id AS u_id, u.email AS u_email, " +
-            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
-            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
-            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.email = :email AND tt.transaction_type_name LIKE CONCAT('%', :transactionType, '%') AND " +
-            "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%'))",
-            nativeQuery = true)
-    Page<Transaction> findByUser(String email, Pageable pageable, String searchKey, String transactionType);
-
-    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
-            "u.id AS u_id, u.email AS u_email, " +
-            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
-            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
-            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%') OR " +
-            "tt.transaction_type_name LIKE CONCAT('%', :searchKey, '%') OR u.email LIKE CONCAT('%', :searchKey, '%')",
-            nativeQuery = true)
-    Page<Transaction> findAll(Pageable pageable, @Param("searchKey") String searchKey);
-
-
-    @Query(value = "SELECT SUM(amount) FROM transaction t " +
-            "JOIN users u ON t.user_id = u.id " +
-            "JOIN category c ON t.category_id = c.category_id " +
-            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.id = :userId AND tt.transaction_type_id = :transactionTypeId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
-    Double findTotalByUserAndTransactionType(@Param("userId") long userId,
-                                             @Param("transactionTypeId") Integer transactionTypeId,
-                                             @Param("month") int month,
-                                             @Param("year") int year);
-
-    @Query(value = "SELECT COUNT(*) FROM transaction t JOIN users u ON t.user_id = u.id " +
-            "WHERE u.id = :userId AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
-    Integer findTotalNoOfTransactionsByUser(@Param("userId") long userId, @Param("month") int month, @Param("year") int year);
-
-    @Query(value = "SELECT SUM(amount) FROM transaction t " +
-            "JOIN users u ON t.user_id = u.id " +
-            "JOIN category c ON t.category_id = c.category_id " +
-            "WHERE u.email = :email and c.category_id = :categoryId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
-    Double findTotalByUserAndCategory(@Param("email") String email,
-                                      @Param("categoryId") int categoryId,
-                                      @Param("month") int month,
-                                      @Param("year") int year);
-
-    @Query(value = "SELECT " +
-            "MONTH(t.date), " +
-            "SUM(CASE WHEN tt.transaction_type_id = 1 THEN t.amount ELSE 0 END), " +
-            "SUM(CASE WHEN tt.transaction_type_id = 2 THEN t.amount ELSE 0 END) " +
-            "FROM transaction t " +
-            "JOIN users u on t.user_id = u.id " +
-            "JOIN category c on t.category_id = c.category_id " +
-            "JOIN transaction_type tt on c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.email = :email and t.date >= DATEADD('MONTH', -11, CURRENT_DATE) " +
-            "GROUP BY YEAR(t.date), MONTH(t.date)", nativeQuery = true)
-    List<Object[]> findMonthlySummaryByUser(@Param("email") String email);
-
-    // All transactions for a given user ordered by date (newest first) for reporting
-    List<Transaction> findByUser_EmailOrderByDateDesc(String email);
+    // Listing reads build TransactionResponseDto straight from one joined select, so a page never
+    // touches the lazy user or the category -> transaction type chain of the entity.
+    String RESPONSE_DTO_SELECT = "SELECT new com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto(" +
+            "t.transactionId, c.categoryId, c.categoryName, tt.transactionTypeId, t.description, t.amount, t.date, u.email) " +
+            "FROM Transaction t JOIN t.user u JOIN t.category c JOIN c.transactionType tt ";
+
+    String BY_USER_FILTER = "WHERE u.email = :email " +
+            "AND LOWER(CAST(tt.transactionTypeName AS String)) LIKE LOWER(CONCAT('%', :transactionType, '%')) " +
+            "AND (t.description LIKE CONCAT('%', :searchKey, '%') OR c.categoryName LIKE CONCAT('%', :searchKey, '%')) ";
+
+    @Query(value = RESPONSE_DTO_SELECT + BY_USER_FILTER,
+            countQuery = "SELECT COUNT(t) FROM Transaction t JOIN t.user u JOIN t.category c JOIN c.transactionType tt " +
+                    BY_USER_FILTER)
+    Page<TransactionResponseDto> findByUser(@Param("email") String email, Pageable pageable,
+                                            @Param("searchKey") String searchKey,
+                                            @Param("transactionType") String transactionType);
+
+    // Keyset variants of findByUser: seek past (cursorDate, cursorId) instead of OFFSET and skip the count query.
+    @Query(RESPONSE_DTO_SELECT + BY_USER_FILTER +
+            "AND (:cursorDate IS NULL OR t.date < :cursorDate OR (t.date = :cursorDate AND t.transactionId < :cursorId)) " +
+            "ORDER BY t.date DESC, t.transactionId DESC")
+    List<TransactionResponseDto> findByUserAfterCursorDesc(@Param("email") String email,
+                                                           @Param("searchKey") String searchKey,
+                                                           @Param("transactionType") String transactionType,
+                                                           @Param("cursorDate") LocalDate cursorDate,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Limit limit);
+
+    @Query(RESPONSE_DTO_SELECT + BY_USER_FILTER +
+            "AND (:cursorDate IS NULL OR t.date > :cursorDate OR (t.date = :cursorDate AND t.transactionId > :cursorId)) " +
+            "ORDER BY t.date ASC, t.transactionId ASC")
+    List<TransactionResponseDto> findByUserAfterCursorAsc(@Param("email") String email,
+                                                          @Param("searchKey") String searchKey,
+                                                          @Param("transactionType") String transactionType,
+                                                          @Param("cursorDate") LocalDate cursorDate,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Limit limit);
+
+    String ALL_FILTER = "WHERE t.description LIKE CONCAT('%', :searchKey, '%') " +
+            "OR c.categoryName LIKE CONCAT('%', :searchKey, '%') " +
+            "OR CAST(tt.transactionTypeName AS String) LIKE CONCAT('%', :searchKey, '%') " +
+            "OR u.email LIKE CONCAT('%', :searchKey, '%')";
+
+    @Query(value = RESPONSE_DTO_SELECT + ALL_FILTER,
+            countQuery = "SELECT COUNT(t) FROM Transaction t JOIN t.user u JOIN t.category c JOIN c.transactionType tt " +
+                    ALL_FILTER)
+    Page<TransactionResponseDto> findAll(Pageable pageable, @Param("searchKey") String searchKey);
+
+    // Per category totals for an arbitrary date window [from, to); ranges over idx_transaction_user_date.
+    @Query("SELECT new com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto(" +
+            "c.categoryId, c.categoryName, tt.transactionTypeId, SUM(t.amount), COUNT(t)) " +
+            "FROM Transaction t JOIN t.category c JOIN c.transactionType tt " +
+            "WHERE t.user.id = :userId AND t.date >= :from AND t.date < :to " +
+            "GROUP BY c.categoryId, c.categoryName, tt.transactionTypeId ORDER BY c.categoryId")
+    List<CategoryTotalDto> findCategoryTotalsByUserBetween(@Param("userId") long userId,
+                                                           @Param("from") LocalDate from,
+                                                           @Param("to") LocalDate to);
+
+    // Rows of (date, transaction type id, total) for the window [from, to); one row per day and
+    // type, grouped over idx_transaction_user_date.
+    @Query("SELECT t.date, tt.transactionTypeId, SUM(t.amount) " +
+            "FROM Transaction t JOIN t.category c JOIN c.transactionType tt " +
+            "WHERE t.user.id = :userId AND t.date >= :from AND t.date < :to " +
+            "AND (:categoryId IS NULL OR c.categoryId = :categoryId) " +
+            "AND (:transactionTypeId IS NULL OR tt.transactionTypeId = :transactionTypeId) " +
+            "GROUP BY t.date, tt.transactionTypeId")
+    List<Object[]> findDailyTotalsByUserBetween(@Param("userId") long userId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("categoryId") Integer categoryId,
+                                                @Param("transactionTypeId") Integer transactionTypeId);
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE t.transactionId = :id")
+    Optional<TransactionResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE t.transactionId IN :ids")
+    List<TransactionResponseDto> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    boolean existsByUser_Email(String email);
+
+    // Rows of (id, date, amount, category id, type id) of one user in id order, for the
+    // in-memory analytics snapshot.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.transactionId, t.date, t.amount, c.categoryId, tt.transactionTypeId " +
+            "FROM Transaction t JOIN t.category c JOIN c.transactionType tt " +
+            "WHERE t.user.id = :userId ORDER BY t.transactionId")
+    Stream<Object[]> streamColumnsByUserId(@Param("userId") long userId);
+
+    // Export rows, newest first, read through a cursor so exports never hold the whole history.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_DTO_SELECT + "WHERE u.email = :email ORDER BY t.date DESC, t.transactionId DESC")
+    Stream<TransactionResponseDto> streamResponsesByUserEmail(@Param("email") String email);
+
+    // Flat rows for rebuilding in-memory structures without materializing entities
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.fullStack.expenseTracker.events.TransactionSnapshot(" +
+            "t.transactionId, u.id, u.email, c.categoryId, tt.transactionTypeId, t.description, t.amount, t.date) " +
+            "FROM Transaction t JOIN t.user u JOIN t.category c JOIN c.transactionType tt")
+    Stream<TransactionSnapshot> streamAllSnapshots();
 }
\ No newline at end of file
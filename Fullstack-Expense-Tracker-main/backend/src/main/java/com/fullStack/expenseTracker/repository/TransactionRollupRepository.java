@@ -0,0 +1,150 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.TransactionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, Long> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO transaction_rollup " +
+            "(user_id, rollup_year, rollup_month, transaction_type_id, category_id, total, tx_count) " +
+            "VALUES (:userId, :year, :month, :transactionTypeId, :categoryId, :total, :count) " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total), tx_count = tx_count + VALUES(tx_count)",
+            nativeQuery = true)
+    void addDelta(@Param("userId") long userId,
+                  @Param("year") int year,
+                  @Param("month") int month,
+                  @Param("transactionTypeId") int transactionTypeId,
+                  @Param("categoryId") int categoryId,
+                  @Param("total") double total,
+                  @Param("count") long count);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE transaction_rollup SET transaction_type_id = :transactionTypeId WHERE category_id = :categoryId",
+            nativeQuery = true)
+    int moveCategoryToType(@Param("categoryId") int categoryId, @Param("transactionTypeId") int transactionTypeId);
+
+    // Locked in stripe order, so writers of several users cannot deadlock each other.
+    @Query(value = "SELECT stripe FROM transaction_rollup_lock WHERE stripe IN (:stripes) ORDER BY stripe FOR UPDATE",
+            nativeQuery = true)
+    List<Integer> lockStripes(@Param("stripes") Collection<Integer> stripes);
+
+    @Query(value = "SELECT id FROM users UNION SELECT user_id FROM transaction_rollup", nativeQuery = true)
+    List<Long> findRebuildUserIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_rollup WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUser(@Param("userId") long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_rollup " +
+            "(user_id, rollup_year, rollup_month, transaction_type_id, category_id, total, tx_count) " +
+            "SELECT t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id WHERE t.user_id = :userId " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id",
+            nativeQuery = true)
+    int insertFromTransactionsByUser(@Param("userId") long userId);
+
+    @Query("SELECT SUM(r.total) FROM TransactionRollup r WHERE r.userId = :userId " +
+            "AND r.transactionTypeId = :transactionTypeId AND r.year = :year AND r.month = :month")
+    Double findTotalByUserAndTransactionType(@Param("userId") long userId,
+                                             @Param("transactionTypeId") int transactionTypeId,
+                                             @Param("month") int month,
+                                             @Param("year") int year);
+
+    @Query("SELECT r.categoryId, SUM(r.total) FROM TransactionRollup r WHERE r.userId = :userId " +
+            "AND r.year = :year AND r.month = :month AND r.transactionTypeId <> 2 GROUP BY r.categoryId")
+    List<Object[]> findExpenseTotalsByCategory(@Param("userId") long userId, @Param("month") int month,
+                                               @Param("year") int year);
+
+    @Query("SELECT SUM(r.count) FROM TransactionRollup r WHERE r.userId = :userId AND r.year = :year AND r.month = :month")
+    Long findTotalNoOfTransactionsByUser(@Param("userId") long userId, @Param("month") int month, @Param("year") int year);
+
+    @Query("SELECT SUM(r.total) FROM TransactionRollup r, User u WHERE u.email = :email AND r.userId = u.id " +
+            "AND r.categoryId = :categoryId AND r.year = :year AND r.month = :month")
+    Double findTotalByUserAndCategory(@Param("email") String email,
+                                      @Param("categoryId") int categoryId,
+                                      @Param("month") int month,
+                                      @Param("year") int year);
+
+    // One row per category the user touched in the month; type totals and the transaction count
+    // are sums over these rows.
+    @Query("SELECT new com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto(" +
+            "r.categoryId, c.categoryName, r.transactionTypeId, SUM(r.total), SUM(r.count)) " +
+            "FROM TransactionRollup r, Category c WHERE c.categoryId = r.categoryId " +
+            "AND r.userId = :userId AND r.year = :year AND r.month = :month " +
+            "GROUP BY r.categoryId, c.categoryName, r.transactionTypeId ORDER BY r.categoryId")
+    List<CategoryTotalDto> findCategoryTotalsByUser(@Param("userId") long userId,
+                                                    @Param("month") int month,
+                                                    @Param("year") int year);
+
+    // Rows of (year, month, expense total, income total) from the given month onwards.
+    @Query("SELECT r.year, r.month, " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.EXPENSE_ID + " THEN r.total ELSE 0 END), " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.INCOME_ID + " THEN r.total ELSE 0 END) " +
+            "FROM TransactionRollup r, User u WHERE u.email = :email AND r.userId = u.id " +
+            "AND (r.year > :fromYear OR (r.year = :fromYear AND r.month >= :fromMonth)) " +
+            "GROUP BY r.year, r.month ORDER BY r.year, r.month")
+    List<Object[]> findMonthlySummaryByUser(@Param("email") String email,
+                                            @Param("fromYear") int fromYear,
+                                            @Param("fromMonth") int fromMonth);
+
+    @Query("SELECT r.year, r.month, " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.EXPENSE_ID + " THEN r.total ELSE 0 END), " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.INCOME_ID + " THEN r.total ELSE 0 END) " +
+            "FROM TransactionRollup r WHERE r.userId = :userId " +
+            "AND (r.year > :fromYear OR (r.year = :fromYear AND r.month >= :fromMonth)) " +
+            "GROUP BY r.year, r.month ORDER BY r.year, r.month")
+    List<Object[]> findMonthlySummaryByUserId(@Param("userId") long userId,
+                                              @Param("fromYear") int fromYear,
+                                              @Param("fromMonth") int fromMonth);
+
+    // Rows of (year, month, transaction type id, total) for the months between the two bounds,
+    // both inclusive.
+    @Query("SELECT r.year, r.month, r.transactionTypeId, SUM(r.total) FROM TransactionRollup r " +
+            "WHERE r.userId = :userId " +
+            "AND (r.year > :fromYear OR (r.year = :fromYear AND r.month >= :fromMonth)) " +
+            "AND (r.year < :toYear OR (r.year = :toYear AND r.month <= :toMonth)) " +
+            "AND (:categoryId IS NULL OR r.categoryId = :categoryId) " +
+            "AND (:transactionTypeId IS NULL OR r.transactionTypeId = :transactionTypeId) " +
+            "GROUP BY r.year, r.month, r.transactionTypeId")
+    List<Object[]> findMonthlyTotalsByUserBetween(@Param("userId") long userId,
+                                                  @Param("fromYear") int fromYear,
+                                                  @Param("fromMonth") int fromMonth,
+                                                  @Param("toYear") int toYear,
+                                                  @Param("toMonth") int toMonth,
+                                                  @Param("categoryId") Integer categoryId,
+                                                  @Param("transactionTypeId") Integer transactionTypeId);
+
+    // Rows of (user id, expense total, income total, transaction count) of one month for a page
+    // of users; users without transactions in the month have no row.
+    @Query("SELECT r.userId, " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.EXPENSE_ID + " THEN r.total ELSE 0 END), " +
+            "SUM(CASE WHEN r.transactionTypeId = " + ETransactionType.INCOME_ID + " THEN r.total ELSE 0 END), " +
+            "SUM(r.count) " +
+            "FROM TransactionRollup r WHERE r.userId IN :userIds AND r.year = :year AND r.month = :month " +
+            "GROUP BY r.userId")
+    List<Object[]> findMonthTotalsByUserIds(@Param("userIds") Collection<Long> userIds,
+                                            @Param("month") int month,
+                                            @Param("year") int year);
+
+    // Rows of (transaction type id, total, count) over the whole platform.
+    @Query("SELECT r.transactionTypeId, SUM(r.total), SUM(r.count) FROM TransactionRollup r GROUP BY r.transactionTypeId")
+    List<Object[]> findPlatformTotalsByType();
+
+    @Query("SELECT DISTINCT r.userId FROM TransactionRollup r WHERE r.year = :year AND r.month = :month AND r.count > 0")
+    List<Long> findActiveUserIds(@Param("month") int month, @Param("year") int year);
+}
@@ -1,6 +1,8 @@
 package com.fullStack.expenseTracker.repository;
 
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.fullStack.expenseTracker.models.User;
@@ -16,10 +18,14 @@ import org.springframework.stereotype.Repository;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    List<User> findByEmailIn(Collection<String> emails);
+
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
 
+    long countByEnabledTrue();
+
     @Query(value = "SELECT DISTINCT u.* FROM users u " +
             "LEFT JOIN user_roles ur ON u.id = ur.user_id " +
             "WHERE (:roleId IS NULL OR ur.role_id = :roleId) " +
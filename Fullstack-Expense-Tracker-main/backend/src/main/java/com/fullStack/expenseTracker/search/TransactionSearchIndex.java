@@ -0,0 +1,374 @@
+package com.fullStack.expenseTracker.search;
+
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// In-process trigram index over transaction descriptions, sharded per user. It answers the
+// listing search boxes with the ids of the matching page so the database only fetches rows by
+// primary key. Category and type names are matched against a small in-memory category table,
+// which keeps the index correct when an admin renames or re-types a category.
+// The startup rebuild streams a snapshot taken when its query starts while live events keep
+// arriving. Every id an event touches during the rebuild is marked in its shard, and the stream
+// leaves marked ids alone, so an older streamed row cannot bring back a deleted or edited one.
+@Component
+@Slf4j
+public class TransactionSearchIndex {
+
+    private static final int GRAM = 3;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, UserShard> shards = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+
+    private final Map<Integer, CategoryEntry> categories = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    private volatile boolean rebuilding;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            Thread.ofVirtual().name("transaction-search-index-rebuild").start(this::rebuild);
+        }
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            categoryRepository.findAll().forEach(this::putCategory);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<TransactionSnapshot> rows = transactionRepository.streamAllSnapshots()) {
+                    rows.forEach(row -> index(row, true));
+                }
+            });
+            ready = true;
+            log.info("Transaction search index built for {} users in {} ms",
+                    shards.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Failed to build transaction search index, searches fall back to SQL: " + e.getMessage(), e);
+        } finally {
+            rebuilding = false;
+            for (UserShard shard : shards.values()) {
+                synchronized (shard) {
+                    shard.changedDuringRebuild.clear();
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getBefore() != null) {
+            remove(event.getBefore());
+        }
+        if (event.getAfter() != null) {
+            index(event.getAfter());
+        }
+    }
+
+    public void putCategory(Category category) {
+        categories.put(category.getCategoryId(), new CategoryEntry(
+                lower(category.getCategoryName()),
+                lower(String.valueOf(category.getTransactionType().getTransactionTypeName()))
+        ));
+    }
+
+    public void index(TransactionSnapshot snapshot) {
+        index(snapshot, false);
+    }
+
+    private void index(TransactionSnapshot snapshot, boolean fromRebuild) {
+        if (snapshot.getUserEmail() != null) {
+            userIdsByEmail.put(snapshot.getUserEmail(), snapshot.getUserId());
+        }
+        UserShard shard = shards.computeIfAbsent(snapshot.getUserId(), id -> new UserShard(snapshot.getUserEmail()));
+        synchronized (shard) {
+            if (fromRebuild && shard.changedDuringRebuild.contains(snapshot.getTransactionId())) {
+                return;
+            }
+            if (!fromRebuild && rebuilding) {
+                shard.changedDuringRebuild.add(snapshot.getTransactionId());
+            }
+            if (shard.email == null) {
+                shard.email = snapshot.getUserEmail();
+            }
+            shard.removeDoc(snapshot.getTransactionId());
+            shard.addDoc(snapshot.getTransactionId(), new Doc(
+                    lower(snapshot.getDescription()), snapshot.getCategoryId(), snapshot.getDate(), snapshot.getAmount()
+            ));
+        }
+    }
+
+    public void remove(TransactionSnapshot snapshot) {
+        // During a rebuild the shard may not be streamed yet, but the removal still has to be marked.
+        UserShard shard = rebuilding
+                ? shards.computeIfAbsent(snapshot.getUserId(), id -> new UserShard(snapshot.getUserEmail()))
+                : shards.get(snapshot.getUserId());
+        if (shard != null) {
+            synchronized (shard) {
+                if (rebuilding) {
+                    shard.changedDuringRebuild.add(snapshot.getTransactionId());
+                }
+                shard.removeDoc(snapshot.getTransactionId());
+            }
+        }
+    }
+
+    // Returns null when the request cannot be served from the index: the order is not supported or
+    // the user has no transactions in it, so the caller falls back to SQL.
+    public SearchResult searchUser(String email, String searchKey, String transactionType,
+                                   String sortField, boolean descending, int pageNumber, int pageSize) {
+        Comparator<Map.Entry<Long, Doc>> order = comparator(sortField);
+        if (order == null) {
+            return null;
+        }
+        if (descending) {
+            order = order.reversed();
+        }
+
+        Long userId = userIdsByEmail.get(email);
+        UserShard shard = userId == null ? null : shards.get(userId);
+        if (shard == null) {
+            return null;
+        }
+
+        String key = lower(searchKey);
+        String type = lower(transactionType);
+        Set<Integer> categoryHits = matchingCategories(key, false);
+
+        List<Map.Entry<Long, Doc>> hits = new ArrayList<>();
+        synchronized (shard) {
+            for (long id : shard.match(key, categoryHits)) {
+                Doc doc = shard.docs.get(id);
+                CategoryEntry category = categories.get(doc.categoryId);
+                if (type.isEmpty() || (category != null && category.typeName.contains(type))) {
+                    hits.add(Map.entry(id, doc));
+                }
+            }
+        }
+        hits.sort(order);
+        return page(hits.stream().map(Map.Entry::getKey).toList(), pageNumber, pageSize);
+    }
+
+    // Admin search also matches the owner's email and the transaction type name; newest ids first.
+    public SearchResult searchAll(String searchKey, int pageNumber, int pageSize) {
+        String key = lower(searchKey);
+        Set<Integer> categoryHits = matchingCategories(key, true);
+
+        List<Long> hits = new ArrayList<>();
+        for (UserShard shard : shards.values()) {
+            synchronized (shard) {
+                if (shard.email != null && lower(shard.email).contains(key)) {
+                    hits.addAll(shard.docs.keySet());
+                } else {
+                    hits.addAll(shard.match(key, categoryHits));
+                }
+            }
+        }
+        hits.sort(Comparator.reverseOrder());
+        return page(hits, pageNumber, pageSize);
+    }
+
+    private Set<Integer> matchingCategories(String key, boolean includeTypeName) {
+        Set<Integer> hits = new HashSet<>();
+        categories.forEach((id, category) -> {
+            if (category.name.contains(key) || (includeTypeName && category.typeName.contains(key))) {
+                hits.add(id);
+            }
+        });
+        return hits;
+    }
+
+    private static SearchResult page(List<Long> ids, int pageNumber, int pageSize) {
+        int from = (int) Math.min((long) pageNumber * pageSize, ids.size());
+        int to = Math.min(from + pageSize, ids.size());
+        return new SearchResult(new ArrayList<>(ids.subList(from, to)), ids.size());
+    }
+
+    private static Comparator<Map.Entry<Long, Doc>> comparator(String sortField) {
+        Comparator<Map.Entry<Long, Doc>> byId = Map.Entry.comparingByKey();
+        if (sortField == null || sortField.equals("transaction_id")) {
+            return byId;
+        }
+        return switch (sortField) {
+            case "date" -> Comparator.<Map.Entry<Long, Doc>, LocalDate>comparing(e -> e.getValue().date).thenComparing(byId);
+            case "amount" -> Comparator.<Map.Entry<Long, Doc>>comparingDouble(e -> e.getValue().amount).thenComparing(byId);
+            default -> null;
+        };
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Long> ids;
+        private final long total;
+    }
+
+    @AllArgsConstructor
+    private static class CategoryEntry {
+        private final String name;
+        private final String typeName;
+    }
+
+    @AllArgsConstructor
+    private static class Doc {
+        private final String text;
+        private final int categoryId;
+        private final LocalDate date;
+        private final double amount;
+    }
+
+    private static class UserShard {
+        private String email;
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final Map<String, LongPostings> grams = new HashMap<>();
+        private final Map<Integer, LongPostings> byCategory = new HashMap<>();
+        private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+        UserShard(String email) {
+            this.email = email;
+        }
+
+        void addDoc(long id, Doc doc) {
+            docs.put(id, doc);
+            for (String gram : grams(doc.text)) {
+                grams.computeIfAbsent(gram, g -> new LongPostings()).add(id);
+            }
+            byCategory.computeIfAbsent(doc.categoryId, c -> new LongPostings()).add(id);
+        }
+
+        void removeDoc(long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            for (String gram : grams(doc.text)) {
+                LongPostings postings = grams.get(gram);
+                if (postings != null) {
+                    postings.remove(id);
+                    if (postings.isEmpty()) {
+                        grams.remove(gram);
+                    }
+                }
+            }
+            LongPostings postings = byCategory.get(doc.categoryId);
+            if (postings != null) {
+                postings.remove(id);
+            }
+        }
+
+        // Same semantics as LIKE '%key%' on the description or the category name.
+        Set<Long> match(String key, Set<Integer> categoryHits) {
+            Set<Long> result = new HashSet<>();
+            for (Integer categoryId : categoryHits) {
+                LongPostings postings = byCategory.get(categoryId);
+                if (postings != null) {
+                    for (int i = 0; i < postings.size(); i++) {
+                        result.add(postings.get(i));
+                    }
+                }
+            }
+
+            if (key.length() < GRAM) {
+                docs.forEach((id, doc) -> {
+                    if (doc.text.contains(key)) {
+                        result.add(id);
+                    }
+                });
+                return result;
+            }
+
+            LongPostings smallest = null;
+            List<LongPostings> lists = new ArrayList<>();
+            for (String gram : grams(key)) {
+                LongPostings postings = grams.get(gram);
+                if (postings == null) {
+                    return result;
+                }
+                lists.add(postings);
+                if (smallest == null || postings.size() < smallest.size()) {
+                    smallest = postings;
+                }
+            }
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (result.contains(id)) {
+                    continue;
+                }
+                boolean inAll = true;
+                for (LongPostings postings : lists) {
+                    if (postings != smallest && !postings.contains(id)) {
+                        inAll = false;
+                        break;
+                    }
+                }
+                // Trigrams only narrow the candidates; confirm the substring itself.
+                if (inAll && docs.get(id).text.contains(key)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+
+        private static Set<String> grams(String text) {
+            Set<String> result = new HashSet<>();
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                result.add(text.substring(i, i + GRAM));
+            }
+            return result;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fullStack.expenseTracker.security;
 
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -71,7 +72,9 @@ public class WebSecurityConfig {
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
-                        auth.requestMatchers("/mypockit/auth/**").permitAll()
+                        // Async dispatches resume a request that was already authorized (streamed downloads).
+                        auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers("/mypockit/auth/**").permitAll()
                                 .requestMatchers("/mypockit/transactiontype/**").permitAll()
                                 .requestMatchers("/mypockit/category/**").permitAll()
                                 .anyRequest().authenticated()
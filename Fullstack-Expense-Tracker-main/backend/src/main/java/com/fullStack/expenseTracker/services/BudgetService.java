@@ -2,6 +2,7 @@ package com.fullStack.expenseTracker.services;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.dto.requests.BudgetRequest;
+import com.fullStack.expenseTracker.dto.requests.CategoryBudgetRequest;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import org.springframework.http.ResponseEntity;
@@ -11,5 +12,7 @@ import org.springframework.stereotype.Service;
 public interface BudgetService {
     ResponseEntity<ApiResponseDto<?>> createBudget(BudgetRequest budgetRequest) throws UserNotFoundException, UserServiceLogicException;
     ResponseEntity<ApiResponseDto<?>> getBudgetByMonth(long userId, int month, long year) throws UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> createCategoryBudget(CategoryBudgetRequest categoryBudgetRequest) throws UserNotFoundException, UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getBudgetUtilization(long userId, int month, int year) throws UserServiceLogicException;
 
 }
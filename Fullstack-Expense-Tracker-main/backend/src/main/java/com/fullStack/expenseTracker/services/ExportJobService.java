@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface ExportJobService {
+
+    ResponseEntity<ApiResponseDto<?>> submitExport(String email, String format)
+            throws UserNotFoundException, TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getExportStatus(String email, String jobId) throws TransactionServiceLogicException;
+
+    ResponseEntity<Resource> downloadExport(String email, String jobId) throws TransactionServiceLogicException;
+
+}
@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface PlatformStatsService {
+    ResponseEntity<ApiResponseDto<?>> getStats();
+
+    void userRegistered(boolean enabled);
+
+    void userEnabledChanged(boolean enabled);
+
+    void reconcile();
+}
@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.services;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface RecurringTransactionService {
+    int materializeDueTransactions();
+}
@@ -1,8 +1,16 @@
 package com.fullStack.expenseTracker.services;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
 
 @Service
 public interface ReportService {
@@ -12,10 +20,27 @@ public interface ReportService {
 
     ResponseEntity<ApiResponseDto<?>> getTotalExpenseByCategoryAndUser(String email, int categoryId, int month, int year);
 
+    ResponseEntity<ApiResponseDto<?>> getTotalsByCategory(Long userId, List<Integer> categoryIds, Integer month, Integer year,
+                                                          LocalDate from, LocalDate to) throws TransactionServiceLogicException;
+
     ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(String email);
 
+    ResponseEntity<ApiResponseDto<?>> getTimeSeries(Long userId, String granularity, LocalDate from, LocalDate to,
+                                                    Integer categoryId, Integer transactionTypeId)
+            throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getDashboard(Long userId, int month, int year) throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getReportCacheStats();
+
     // File exports
-    ResponseEntity<byte[]> exportUserTransactionsPdf(String email);
+    ResponseEntity<StreamingResponseBody> exportUserTransactionsPdf(String email);
+
+    ResponseEntity<StreamingResponseBody> exportUserTransactionsExcel(String email);
+
+    ResponseEntity<StreamingResponseBody> exportUserTransactionsCsv(String email, boolean gzip);
+
+    ResponseEntity<StreamingResponseBody> exportUserTransactionsNdjson(String email, boolean gzip);
 
-    ResponseEntity<byte[]> exportUserTransactionsExcel(String email);
+    void writeUserTransactions(String email, EExportFormat format, OutputStream out) throws IOException;
 }
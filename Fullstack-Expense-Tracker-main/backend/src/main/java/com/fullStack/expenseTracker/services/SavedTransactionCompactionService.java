@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface SavedTransactionCompactionService {
+    ResponseEntity<ApiResponseDto<?>> compact() throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getLastReport();
+
+    void compactOnSchedule();
+}
@@ -7,16 +7,24 @@ import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @Service
 public interface SavedTransactionService {
     ResponseEntity<ApiResponseDto<?>> createSavedTransaction(SavedTransactionRequestDto requestDto) throws UserServiceLogicException, UserNotFoundException;
-    ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId, LocalDate date) throws UserServiceLogicException, TransactionNotFoundException;
     ResponseEntity<ApiResponseDto<?>> editSavedTransaction(long savedTransactionId, SavedTransactionRequestDto requestDto) throws UserServiceLogicException, TransactionNotFoundException;
     ResponseEntity<ApiResponseDto<?>> deleteSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
-    ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId, LocalDate date) throws UserServiceLogicException, TransactionNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> addSavedTransactions(List<Long> savedTransactionIds) throws UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> skipSavedTransactions(List<Long> savedTransactionIds) throws UserServiceLogicException;
     ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUser(long userId) throws UserServiceLogicException, UserNotFoundException;
-    ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId) throws UserServiceLogicException, UserNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId, Integer month, Integer year, LocalDate from, LocalDate to,
+                                                                       int pageNumber, int pageSize) throws UserServiceLogicException, UserNotFoundException;
     ResponseEntity<ApiResponseDto<?>> getSavedTransactionById(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException;
+    ResponseEntity<StreamingResponseBody> getCalendar(long userId, LocalDate from, LocalDate to) throws UserServiceLogicException, UserNotFoundException;
 
 }
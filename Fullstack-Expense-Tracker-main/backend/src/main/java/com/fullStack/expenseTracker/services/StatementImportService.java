@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public interface StatementImportService {
+
+    ResponseEntity<ApiResponseDto<?>> startImport(String email, MultipartFile file, String format, String dateFormat,
+                                                  Integer expenseCategoryId, Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getImportStatus(String email, String importId) throws TransactionServiceLogicException;
+
+}
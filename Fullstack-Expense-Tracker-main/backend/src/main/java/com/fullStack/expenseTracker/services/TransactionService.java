@@ -6,9 +6,12 @@ import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.models.Transaction;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public interface TransactionService {
 
@@ -16,6 +19,11 @@ public interface TransactionService {
     ResponseEntity<ApiResponseDto<?>> addTransaction(TransactionRequestDto transactionRequestDto)
             throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> addTransactions(List<TransactionRequestDto> transactionRequestDtos)
+            throws TransactionServiceLogicException;
+
+    void recordTransactions(List<Transaction> transactions);
+
     ResponseEntity<ApiResponseDto<?>> getTransactionById(Long TransactionId)
             throws TransactionNotFoundException;
 
@@ -28,4 +36,6 @@ public interface TransactionService {
 
     ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(String email, int pageNumber, int pageSize, String searchKey, String sortField, String sortDirec, String transactionType) throws UserNotFoundException, TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> getTransactionsByUserCursor(String email, String cursor, int pageSize, String searchKey, String sortField, String sortDirec, String transactionType) throws TransactionServiceLogicException;
+
 }
@@ -24,6 +24,7 @@ import com.fullStack.expenseTracker.models.Role;
 import com.fullStack.expenseTracker.models.User;
 import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.AuthService;
+import com.fullStack.expenseTracker.services.PlatformStatsService;
 import com.fullStack.expenseTracker.services.UserService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> save(SignUpRequestDto signUpRequestDto)
             throws UserAlreadyExistsException, UserServiceLogicException {
@@ -61,6 +65,7 @@ public class AuthServiceImpl implements AuthService {
             );
 
             userRepository.save(user);
+            platformStatsService.userRegistered(user.isEnabled());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                     ApiResponseStatus.SUCCESS, HttpStatus.CREATED,"User has been successfully registered!"
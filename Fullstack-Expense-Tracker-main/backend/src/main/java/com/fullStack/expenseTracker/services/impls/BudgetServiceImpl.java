@@ -1,12 +1,21 @@
 package com.fullStack.expenseTracker.services.impls;
 
+import com.fullStack.expenseTracker.analytics.BudgetUtilizationTracker;
+import com.fullStack.expenseTracker.analytics.TransactionAnalyticsCache;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.dto.requests.BudgetRequest;
+import com.fullStack.expenseTracker.dto.requests.CategoryBudgetRequest;
+import com.fullStack.expenseTracker.enums.ETransactionType;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.CategoryBudget;
+import com.fullStack.expenseTracker.reports.ReportResultCache;
 import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.CategoryBudgetRepository;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.BudgetService;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +36,21 @@ public class BudgetServiceImpl implements BudgetService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TransactionAnalyticsCache transactionAnalyticsCache;
+
+    @Autowired
+    private ReportResultCache reportResultCache;
+
+    @Autowired
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BudgetUtilizationTracker budgetUtilizationTracker;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> createBudget(BudgetRequest budgetRequest) throws UserNotFoundException, UserServiceLogicException {
         if (!userRepository.existsById(budgetRequest.getUserId())) {
@@ -43,7 +67,9 @@ public class BudgetServiceImpl implements BudgetService {
                 budget.setAmount(budgetRequest.getAmount());
             }
 
-            budgetRepository.save(budget);
+            transactionAnalyticsCache.putBudget(budgetRepository.save(budget));
+            reportResultCache.userChanged(budget.getUserId());
+            budgetUtilizationTracker.budgetChanged(budget.getUserId(), budget.getMonth(), (int) budget.getYear());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                     ApiResponseStatus.SUCCESS,
@@ -73,4 +99,60 @@ public class BudgetServiceImpl implements BudgetService {
             throw new UserServiceLogicException("Failed to create budget: Try again later!");
         }
     }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> createCategoryBudget(CategoryBudgetRequest categoryBudgetRequest)
+            throws UserNotFoundException, UserServiceLogicException {
+        if (!userRepository.existsById(categoryBudgetRequest.getUserId())) {
+            throw new UserNotFoundException("User not found with id " + categoryBudgetRequest.getUserId());
+        }
+        Category category = categoryRepository.findById(categoryBudgetRequest.getCategoryId()).orElse(null);
+        if (category == null || ETransactionType.isIncome(category.getTransactionType().getTransactionTypeId())) {
+            throw new UserServiceLogicException("Budgets can only be set for expense categories!");
+        }
+        if (categoryBudgetRequest.getAmount() < 0) {
+            throw new UserServiceLogicException("Budget amount must not be negative!");
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            CategoryBudget budget = categoryBudgetRepository.findByUserIdAndCategoryIdAndYearAndMonth(
+                    categoryBudgetRequest.getUserId(), categoryBudgetRequest.getCategoryId(), today.getYear(), today.getMonthValue());
+            if (budget == null) {
+                budget = new CategoryBudget(categoryBudgetRequest.getUserId(), categoryBudgetRequest.getCategoryId(),
+                        today.getYear(), today.getMonthValue(), categoryBudgetRequest.getAmount());
+            } else {
+                budget.setAmount(categoryBudgetRequest.getAmount());
+            }
+
+            categoryBudgetRepository.save(budget);
+            reportResultCache.userChanged(budget.getUserId());
+            budgetUtilizationTracker.budgetChanged(budget.getUserId(), budget.getMonth(), budget.getYear());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
+                    ApiResponseStatus.SUCCESS,
+                    HttpStatus.CREATED,
+                    "Category budget created successfully!"
+            ));
+        } catch (Exception e) {
+            log.error("Failed to create category budget: " + e.getMessage());
+            throw new UserServiceLogicException("Failed to create budget: Try again later!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getBudgetUtilization(long userId, int month, int year) throws UserServiceLogicException {
+        if (month < 1 || month > 12) {
+            throw new UserServiceLogicException("Month must be between 1 and 12");
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.OK).body(new ApiResponseDto<>(
+                    ApiResponseStatus.SUCCESS,
+                    HttpStatus.OK,
+                    budgetUtilizationTracker.utilization(userId, month, year)
+            ));
+        } catch (Exception e) {
+            log.error("Failed to fetch budget utilization: " + e.getMessage());
+            throw new UserServiceLogicException("Failed to fetch budget utilization: Try again later!");
+        }
+    }
 }
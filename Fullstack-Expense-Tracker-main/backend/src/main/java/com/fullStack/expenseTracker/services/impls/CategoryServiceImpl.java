@@ -1,5 +1,7 @@
 package com.fullStack.expenseTracker.services.impls;
 
+import com.fullStack.expenseTracker.analytics.BudgetUtilizationTracker;
+import com.fullStack.expenseTracker.analytics.TransactionAnalyticsCache;
 import com.fullStack.expenseTracker.services.CategoryService;
 import com.fullStack.expenseTracker.services.TransactionTypeService;
 import com.fullStack.expenseTracker.dto.requests.CategoryRequestDto;
@@ -10,12 +12,16 @@ import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.CategoryServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.TransactionTypeNotFoundException;
 import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.reports.ReportResultCache;
 import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
+import com.fullStack.expenseTracker.search.TransactionSearchIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -28,6 +34,21 @@ public class CategoryServiceImpl implements CategoryService {
     @Autowired
     private TransactionTypeService transactionTypeService;
 
+    @Autowired
+    private TransactionSearchIndex transactionSearchIndex;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private TransactionAnalyticsCache transactionAnalyticsCache;
+
+    @Autowired
+    private ReportResultCache reportResultCache;
+
+    @Autowired
+    private BudgetUtilizationTracker budgetUtilizationTracker;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getCategories() {
         try {
@@ -80,7 +101,9 @@ public class CategoryServiceImpl implements CategoryService {
         );
 
         try {
-            categoryRepository.save(category);
+            Category saved = categoryRepository.save(category);
+            transactionSearchIndex.putCategory(saved);
+            transactionAnalyticsCache.putCategory(saved, saved.getTransactionType().getTransactionTypeId());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -95,16 +118,26 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateCategory(int categoryId, CategoryRequestDto categoryRequestDto)
             throws CategoryNotFoundException, TransactionTypeNotFoundException, CategoryServiceLogicException {
 
         Category category = getCategoryById(categoryId);
 
+        int previousTypeId = category.getTransactionType().getTransactionTypeId();
         category.setCategoryName(categoryRequestDto.getCategoryName());
         category.setTransactionType(transactionTypeService.getTransactionById(categoryRequestDto.getTransactionTypeId()));
 
         try {
-            categoryRepository.save(category);
+            Category saved = categoryRepository.save(category);
+            transactionSearchIndex.putCategory(saved);
+            transactionAnalyticsCache.putCategory(saved, previousTypeId);
+            reportResultCache.allChanged();
+            if (previousTypeId != category.getTransactionType().getTransactionTypeId()) {
+                transactionRollupRepository.moveCategoryToType(categoryId, category.getTransactionType().getTransactionTypeId());
+                // Spending is counted by type, so every month is reloaded with the moved category.
+                budgetUtilizationTracker.clear();
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -0,0 +1,257 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.EExportStatus;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.exports.ExportJob;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.ExportJobService;
+import com.fullStack.expenseTracker.services.ReportService;
+import com.fullStack.expenseTracker.services.UserService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// PDF and Excel exports run as background jobs on a small fixed pool instead of on request
+// threads. A repeated request for an export that is still queued or running gets the existing
+// job back. Results are written to the export directory and served from there, with Range
+// support, until they expire.
+@Component
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    @Autowired
+    ReportService reportService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Value("${app.export.dir:${java.io.tmpdir}/expense-tracker-exports}")
+    private Path exportDir;
+
+    @Value("${app.export.max-concurrent:2}")
+    private int maxConcurrentExports;
+
+    @Value("${app.export.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.export.per-user-limit:2}")
+    private int perUserLimit;
+
+    @Value("${app.export.retention-minutes:30}")
+    private long retentionMinutes;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(exportDir);
+        // Jobs do not survive a restart, so neither do their files.
+        try (Stream<Path> leftovers = Files.list(exportDir)) {
+            leftovers.forEach(this::deleteQuietly);
+        }
+        int threads = Math.max(1, maxConcurrentExports);
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("report-export-", 1).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> submitExport(String email, String format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+        userService.findByEmail(email);
+        EExportFormat exportFormat = parseFormat(format);
+        if (!transactionRepository.existsByUser_Email(email)) {
+            throw new TransactionServiceLogicException("There are no transactions to export!");
+        }
+
+        ExportJob job;
+        synchronized (jobs) {
+            ExportJob running = findInFlight(email, exportFormat);
+            if (running != null) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                        new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.ACCEPTED,
+                                running.toResponseDto(retentionMinutes))
+                );
+            }
+            long inFlight = jobs.values().stream().filter(j -> j.getEmail().equals(email) && j.isInFlight()).count();
+            if (inFlight >= perUserLimit) {
+                throw new TransactionServiceLogicException("You already have " + inFlight + " exports running: Try again later!");
+            }
+
+            String id = UUID.randomUUID().toString();
+            job = new ExportJob(id, email, exportFormat, exportDir.resolve(id + extension(exportFormat)));
+            try {
+                executor.execute(() -> runExport(job));
+            } catch (RejectedExecutionException e) {
+                throw new TransactionServiceLogicException("Too many exports are queued: Try again later!");
+            }
+            jobs.put(id, job);
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.ACCEPTED, job.toResponseDto(retentionMinutes))
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getExportStatus(String email, String jobId) throws TransactionServiceLogicException {
+        ExportJob job = findJob(email, jobId);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, job.toResponseDto(retentionMinutes))
+        );
+    }
+
+    @Override
+    public ResponseEntity<Resource> downloadExport(String email, String jobId) throws TransactionServiceLogicException {
+        ExportJob job = findJob(email, jobId);
+        if (job.getStatus() != EExportStatus.COMPLETED || !Files.exists(job.getFile())) {
+            throw new TransactionServiceLogicException("Export " + jobId + " is not ready for download");
+        }
+
+        // A Resource body lets Spring MVC answer Range requests with 206 partial content.
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType(job.getFormat()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("transactions-report" + extension(job.getFormat())).build());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        return new ResponseEntity<>(new FileSystemResource(job.getFile()), headers, HttpStatus.OK);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredExports() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (job.getFinishedAt() == null || !job.getFinishedAt().isBefore(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            return true;
+        });
+    }
+
+    private void runExport(ExportJob job) {
+        job.start();
+        Path part = job.getFile().resolveSibling(job.getId() + ".part");
+        long started = System.currentTimeMillis();
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                reportService.writeUserTransactions(job.getEmail(), job.getFormat(), out);
+            }
+            Files.move(part, job.getFile(), StandardCopyOption.ATOMIC_MOVE);
+            job.complete(Files.size(job.getFile()));
+            log.info("Export {} ({}) for {} finished in {} ms, {} bytes", job.getId(), job.getFormat(), job.getEmail(),
+                    System.currentTimeMillis() - started, job.getSizeBytes());
+        } catch (Exception e) {
+            log.error("Export {} for {} failed: {}", job.getId(), job.getEmail(), e.getMessage(), e);
+            deleteQuietly(part);
+            job.fail("Failed to generate the export: Try again later!");
+        }
+    }
+
+    private ExportJob findInFlight(String email, EExportFormat format) {
+        for (ExportJob job : jobs.values()) {
+            if (job.getEmail().equals(email) && job.getFormat() == format && job.isInFlight()) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private ExportJob findJob(String email, String jobId) throws TransactionServiceLogicException {
+        ExportJob job = jobId == null ? null : jobs.get(jobId);
+        if (job == null || !job.getEmail().equals(email)) {
+            throw new TransactionServiceLogicException("Export not found with id " + jobId);
+        }
+        return job;
+    }
+
+    private static EExportFormat parseFormat(String format) throws TransactionServiceLogicException {
+        if (format != null) {
+            switch (format.trim().toLowerCase(Locale.ROOT)) {
+                case "pdf":
+                    return EExportFormat.PDF;
+                case "excel":
+                case "xlsx":
+                    return EExportFormat.EXCEL;
+                case "csv":
+                    return EExportFormat.CSV;
+                case "ndjson":
+                    return EExportFormat.NDJSON;
+                default:
+                    break;
+            }
+        }
+        throw new TransactionServiceLogicException("Unsupported export format: " + format);
+    }
+
+    private static String extension(EExportFormat format) {
+        return switch (format) {
+            case PDF -> ".pdf";
+            case EXCEL -> ".xlsx";
+            case CSV -> ".csv";
+            case NDJSON -> ".ndjson";
+        };
+    }
+
+    private static MediaType mediaType(EExportFormat format) {
+        return switch (format) {
+            case PDF -> MediaType.APPLICATION_PDF;
+            case EXCEL -> XLSX;
+            case CSV -> MediaType.parseMediaType("text/csv;charset=UTF-8");
+            case NDJSON -> MediaType.parseMediaType("application/x-ndjson");
+        };
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete export file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.PlatformStatsResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.PlatformStat;
+import com.fullStack.expenseTracker.repository.PlatformStatRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.PlatformStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Platform wide counters for the admin overview. Writers only bump striped LongAdders; a
+// scheduled flush adds the pending deltas to platform_stat and reloads it, so reads are a few
+// in-memory sums whatever the size of the transaction table. A nightly reconciliation, after the
+// rollup rebuild, corrects the counters by their drift from exact values in users and
+// transaction_rollup.
+//
+// A transaction is counted after it commits, holding the read side of commitGate from just before
+// the commit until it is counted. Reconciliation takes the write side to drain the adders and read
+// the exact values, so every local commit it sees is flushed and none is pending. It then adds
+// the drift instead of overwriting, keeping deltas other instances flush meanwhile. Deltas still
+// pending on other instances at the snapshot are counted twice; they are at most one flush
+// interval of writes, and the next reconciliation takes them out again.
+@Component
+@Slf4j
+public class PlatformStatsServiceImpl implements PlatformStatsService {
+
+    static final String USERS_TOTAL = "users_total";
+    static final String USERS_ENABLED = "users_enabled";
+    static final String TRANSACTIONS_EXPENSE = "transactions_expense";
+    static final String TRANSACTIONS_INCOME = "transactions_income";
+    static final String VOLUME_EXPENSE = "volume_expense_minor";
+    static final String VOLUME_INCOME = "volume_income_minor";
+
+    private static final String[] KEYS = {
+            USERS_TOTAL, USERS_ENABLED, TRANSACTIONS_EXPENSE, TRANSACTIONS_INCOME, VOLUME_EXPENSE, VOLUME_INCOME
+    };
+
+    @Autowired
+    private PlatformStatRepository platformStatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private final Map<String, Long> persisted = new ConcurrentHashMap<>();
+
+    // Users with a transaction in activeMonth; deletes are only reflected by reconciliation.
+    private final Set<Long> activeUsers = ConcurrentHashMap.newKeySet();
+
+    private volatile YearMonth activeMonth;
+
+    public PlatformStatsServiceImpl() {
+        for (String key : KEYS) {
+            pending.put(key, new LongAdder());
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getStats() {
+        long expenseTransactions = value(TRANSACTIONS_EXPENSE);
+        long incomeTransactions = value(TRANSACTIONS_INCOME);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        new PlatformStatsResponseDto(
+                                value(USERS_TOTAL),
+                                value(USERS_ENABLED),
+                                YearMonth.now().equals(activeMonth) ? activeUsers.size() : 0,
+                                expenseTransactions + incomeTransactions,
+                                expenseTransactions,
+                                incomeTransactions,
+                                value(VOLUME_EXPENSE) / 100.0,
+                                value(VOLUME_INCOME) / 100.0
+                        )
+                )
+        );
+    }
+
+    @Override
+    public void userRegistered(boolean enabled) {
+        countAfterCommit(deltas -> {
+            deltas.add(USERS_TOTAL, 1);
+            if (enabled) {
+                deltas.add(USERS_ENABLED, 1);
+            }
+        });
+    }
+
+    @Override
+    public void userEnabledChanged(boolean enabled) {
+        countAfterCommit(deltas -> deltas.add(USERS_ENABLED, enabled ? 1 : -1));
+    }
+
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        countAfterCommit(deltas -> {
+            if (event.getBefore() != null) {
+                count(deltas, event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                count(deltas, event.getAfter(), 1);
+                deltas.activeUsers.computeIfAbsent(YearMonth.from(event.getAfter().getDate()), month -> new HashSet<>())
+                        .add(event.getAfter().getUserId());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.stats.flush-ms:5000}", initialDelayString = "${app.admin.stats.flush-ms:5000}")
+    public synchronized void flush() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (String key : KEYS) {
+                    long delta = pending.get(key).sumThenReset();
+                    if (delta != 0) {
+                        platformStatRepository.addDelta(key, delta);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            // The deltas of a failed flush are lost; the next reconciliation restores exact values.
+            log.error("Failed to flush platform stats: " + e.getMessage(), e);
+        }
+        reload();
+        if (!YearMonth.now().equals(activeMonth)) {
+            loadActiveUsers();
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${app.admin.stats.reconcile-cron:0 0 4 * * *}")
+    public synchronized void reconcile() {
+        long started = System.currentTimeMillis();
+        long[] drift;
+        commitGate.writeLock().lock();
+        try {
+            flush();
+            // One snapshot for the stored counters and the exact values.
+            TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            drift = snapshot.execute(status -> {
+                long[] exact = new long[KEYS.length];
+                exact[0] = userRepository.count();
+                exact[1] = userRepository.countByEnabledTrue();
+                for (Object[] row : transactionRollupRepository.findPlatformTotalsByType()) {
+                    boolean income = ETransactionType.isIncome((Integer) row[0]);
+                    exact[income ? 3 : 2] += row[2] != null ? (Long) row[2] : 0;
+                    exact[income ? 5 : 4] += row[1] != null ? Math.round((Double) row[1] * 100) : 0;
+                }
+                Map<String, Long> stored = new HashMap<>();
+                platformStatRepository.findAll().forEach(stat -> stored.put(stat.getStatKey(), stat.getStatValue()));
+                for (int i = 0; i < KEYS.length; i++) {
+                    exact[i] -= stored.getOrDefault(KEYS[i], 0L);
+                }
+                return exact;
+            });
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < KEYS.length; i++) {
+                if (drift[i] != 0) {
+                    platformStatRepository.addDelta(KEYS[i], drift[i]);
+                }
+            }
+        });
+        reload();
+        loadActiveUsers();
+        log.info("Reconciled platform stats in {} ms", System.currentTimeMillis() - started);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+        if (value(USERS_TOTAL) == 0 && userRepository.count() > 0) {
+            reconcile();
+        } else {
+            loadActiveUsers();
+        }
+    }
+
+    private long value(String key) {
+        return persisted.getOrDefault(key, 0L) + pending.get(key).sum();
+    }
+
+    private void count(Deltas deltas, TransactionSnapshot snapshot, int sign) {
+        boolean income = ETransactionType.isIncome(snapshot.getTransactionTypeId());
+        deltas.add(income ? TRANSACTIONS_INCOME : TRANSACTIONS_EXPENSE, sign);
+        deltas.add(income ? VOLUME_INCOME : VOLUME_EXPENSE, sign * Math.round(snapshot.getAmount() * 100));
+    }
+
+    // Collects the deltas of the current transaction and adds them to the adders once it commits.
+    private void countAfterCommit(Consumer<Deltas> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Deltas deltas = new Deltas();
+            changes.accept(deltas);
+            enterGate();
+            try {
+                apply(deltas);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        Deltas deltas = (Deltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Deltas created = new Deltas();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // After the beforeCommit work of the other synchronizations, such as the rollup writes.
+                @Override
+                public void beforeCompletion() {
+                    enterGate();
+                    created.gated = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PlatformStatsServiceImpl.this);
+                    if (!created.gated) {
+                        return;
+                    }
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            apply(created);
+                        }
+                    } finally {
+                        commitGate.readLock().unlock();
+                    }
+                }
+            });
+            deltas = created;
+        }
+        changes.accept(deltas);
+    }
+
+    // Barges past a queued reconciliation: this commit may hold row locks that a commit already
+    // inside the gate waits for, and the reconciliation waits for that one.
+    private void enterGate() {
+        if (!commitGate.readLock().tryLock()) {
+            commitGate.readLock().lock();
+        }
+    }
+
+    private void apply(Deltas deltas) {
+        deltas.values.forEach((key, delta) -> pending.get(key).add(delta));
+        Set<Long> userIds = deltas.activeUsers.get(activeMonth);
+        if (userIds != null) {
+            activeUsers.addAll(userIds);
+        }
+    }
+
+    private void reload() {
+        try {
+            for (PlatformStat stat : platformStatRepository.findAll()) {
+                persisted.put(stat.getStatKey(), stat.getStatValue());
+            }
+        } catch (Exception e) {
+            log.error("Failed to load platform stats: " + e.getMessage(), e);
+        }
+    }
+
+    private static class Deltas {
+
+        private final Map<String, Long> values = new HashMap<>();
+
+        // Users with a written row, by month of the row.
+        private final Map<YearMonth, Set<Long>> activeUsers = new HashMap<>();
+
+        private boolean gated;
+
+        private void add(String key, long delta) {
+            values.merge(key, delta, Long::sum);
+        }
+    }
+
+    private void loadActiveUsers() {
+        YearMonth month = YearMonth.now();
+        try {
+            Set<Long> userIds = Set.copyOf(transactionRollupRepository.findActiveUserIds(month.getMonthValue(), month.getYear()));
+            activeUsers.retainAll(userIds);
+            activeUsers.addAll(userIds);
+            activeMonth = month;
+        } catch (Exception e) {
+            log.error("Failed to load active users: " + e.getMessage(), e);
+        }
+    }
+}
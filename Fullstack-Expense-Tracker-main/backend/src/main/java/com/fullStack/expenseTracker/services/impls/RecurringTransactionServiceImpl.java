@@ -0,0 +1,225 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.recurring.RecurrenceRule;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.JobLeaseRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionBatchRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionBatchRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.RecurringTransactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Posts the due occurrences of recurring plans. Due plans are read in chunks along
+// idx_saved_transaction_due, each chunk posting its transactions and advancing the plans'
+// upcoming dates in one database transaction, so memory stays flat however many plans are due.
+// A row in job_lease keeps the job on one instance; every chunk renews it first, and that row
+// lock is held until the chunk commits, so an instance that lost its lease cannot post twice.
+@Component
+@Slf4j
+public class RecurringTransactionServiceImpl implements RecurringTransactionService {
+
+    static final String JOB_NAME = "recurring_materializer";
+
+    // Occurrences one plan posts per chunk; plans further behind are caught up by another pass.
+    private static final int MAX_OCCURRENCES_PER_PLAN = 31;
+
+    private static final List<ETransactionFrequency> RECURRING = List.of(ETransactionFrequency.DAILY,
+            ETransactionFrequency.WEEKLY, ETransactionFrequency.MONTHLY, ETransactionFrequency.YEARLY);
+
+    // Before any upcoming date, so the first chunk starts at the beginning of the index.
+    private static final LocalDate START = LocalDate.of(1000, 1, 1);
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    private SavedTransactionBatchRepository savedTransactionBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.recurring.materializer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recurring.materializer.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.recurring.materializer.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    @Override
+    @Scheduled(cron = "${app.recurring.materializer.cron:0 5 * * * *}")
+    public int materializeDueTransactions() {
+        if (!enabled) {
+            return 0;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLeaseRepository.acquire(JOB_NAME, instanceId, now, now.plusSeconds(leaseSeconds)));
+        if (acquired == null || acquired == 0) {
+            log.debug("Recurring materializer is running on another instance");
+            return 0;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int plans = 0;
+        int created = 0;
+        try {
+            for (ETransactionFrequency frequency : RECURRING) {
+                boolean behind;
+                do {
+                    behind = false;
+                    Chunk chunk = new Chunk(START, 0);
+                    do {
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> materializeChunk(frequency, today, chunk));
+                            plans += chunk.plans;
+                            created += chunk.created;
+                            behind |= chunk.behind;
+                        } catch (RuntimeException e) {
+                            // The chunk rolled back; its plans stay due and are retried by the next run.
+                            log.error("Failed to materialize {} plans after plan {}: {}",
+                                    frequency, chunk.afterId, e.getMessage(), e);
+                        }
+                        if (chunk.leaseLost) {
+                            log.warn("Recurring materializer lost its lease, stopping after {} transactions", created);
+                            return created;
+                        }
+                    } while (chunk.plans == chunkSize);
+                } while (behind);
+            }
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.release(JOB_NAME, instanceId, LocalDateTime.now()));
+        }
+        log.info("Materialized {} transactions in {} recurring plan updates in {} ms",
+                created, plans, System.currentTimeMillis() - started);
+        return created;
+    }
+
+    private void materializeChunk(ETransactionFrequency frequency, LocalDate today, Chunk chunk) {
+        chunk.plans = 0;
+        chunk.created = 0;
+        chunk.behind = false;
+        LocalDateTime now = LocalDateTime.now();
+        if (jobLeaseRepository.renew(JOB_NAME, instanceId, now, now.plusSeconds(leaseSeconds)) == 0) {
+            chunk.leaseLost = true;
+            return;
+        }
+
+        List<SavedTransaction> due = savedTransactionRepository.findDueChunk(
+                frequency.name(), today, chunk.afterDate, chunk.afterId, chunkSize);
+        if (due.isEmpty()) {
+            return;
+        }
+        // Move the cursor before the dates change, so a failing chunk is skipped rather than retried.
+        SavedTransaction last = due.get(due.size() - 1);
+        chunk.afterDate = last.getUpcomingDate();
+        chunk.afterId = last.getPlanId();
+        chunk.plans = due.size();
+
+        Map<Long, User> users = userRepository.findAllById(due.stream().map(SavedTransaction::getUserId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Integer, Category> categories = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+
+        List<SavedTransaction> plans = new ArrayList<>();
+        List<List<LocalDate>> planDates = new ArrayList<>();
+        List<SavedTransactionBatchRepository.Claim> claims = new ArrayList<>();
+        for (SavedTransaction plan : due.stream().sorted(Comparator.comparing(SavedTransaction::getPlanId)).toList()) {
+            if (users.get(plan.getUserId()) == null || categories.get(plan.getCategoryId()) == null) {
+                log.warn("Skipping recurring plan {}: its user or category no longer exists", plan.getPlanId());
+                continue;
+            }
+            RecurrenceRule rule = RecurrenceRule.of(plan);
+            List<LocalDate> dates = rule.dueDates(plan.getUpcomingDate(), today, MAX_OCCURRENCES_PER_PLAN);
+            plans.add(plan);
+            planDates.add(dates);
+            claims.add(new SavedTransactionBatchRepository.Claim(plan.getPlanId(), plan.getUpcomingDate(),
+                    rule.occurrence(plan.getUpcomingDate(), dates.size())));
+        }
+
+        // The occurrences are claimed with conditional updates in plan order; a plan added or skipped
+        // by hand meanwhile loses its claim and is left to the next run, the rest of the chunk posts.
+        boolean[] claimed = savedTransactionBatchRepository.claimAll(claims);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int k = 0; k < plans.size(); k++) {
+            if (!claimed[k]) {
+                log.debug("Skipping recurring plan {}: its occurrence was claimed meanwhile", plans.get(k).getPlanId());
+                continue;
+            }
+            SavedTransaction plan = plans.get(k);
+            User user = users.get(plan.getUserId());
+            Category category = categories.get(plan.getCategoryId());
+            for (LocalDate date : planDates.get(k)) {
+                transactions.add(new Transaction(user, category, plan.getDescription(), plan.getAmount(), date));
+            }
+            chunk.behind |= !claims.get(k).next().isAfter(today);
+        }
+
+        transactionBatchRepository.insertAll(transactions);
+        transactions.forEach(t -> eventPublisher.publishEvent(TransactionChangedEvent.created(TransactionSnapshot.of(t))));
+        chunk.created = transactions.size();
+    }
+
+    // Keyset position within one frequency, plus what the last chunk did.
+    private static class Chunk {
+        private LocalDate afterDate;
+        private long afterId;
+        private int plans;
+        private int created;
+        private boolean behind;
+        private boolean leaseLost;
+
+        private Chunk(LocalDate afterDate, long afterId) {
+            this.afterDate = afterDate;
+            this.afterId = afterId;
+        }
+    }
+}
@@ -1,31 +1,63 @@
 package com.fullStack.expenseTracker.services.impls;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
+import com.fullStack.expenseTracker.analytics.TransactionAnalyticsCache;
+import com.fullStack.expenseTracker.analytics.UserTransactionColumns;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto;
+import com.fullStack.expenseTracker.dto.reponses.DashboardResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ReportCacheStatsResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesBucketDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.TransactionsMonthlySummaryDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
-import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.enums.EExportFormat;
+import com.fullStack.expenseTracker.enums.ETimeGranularity;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exports.TransactionRowWriter;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.reports.ReportResultCache;
+import com.fullStack.expenseTracker.reports.TimeSeriesBuckets;
+import com.fullStack.expenseTracker.reports.TransactionSpreadsheetWriter;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.TransactionExportRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
 import com.fullStack.expenseTracker.services.ReportService;
 import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Component
 @Slf4j
@@ -34,35 +66,129 @@ public class ReportServiceImpl implements ReportService {
     @Autowired
     TransactionRepository transactionRepository;
 
+    @Autowired
+    TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    BudgetRepository budgetRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    TransactionExportRepository transactionExportRepository;
+
+    @Autowired
+    TransactionAnalyticsCache transactionAnalyticsCache;
+
+    @Autowired
+    ReportResultCache reportResultCache;
+
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    // Ten years of weeks or nearly three of days.
+    private static final int MAX_TIME_SERIES_BUCKETS = 1000;
+
+    private final ExecutorService dashboardExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalByTransactionTypeAndUser(Long userId, int transactionTypeId, int month, int year) {
-        Double total = transactionRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, month, year);
+        Double total = reportResultCache.get(userId, "totalByType", Arrays.asList(transactionTypeId, month, year), () -> {
+            UserTransactionColumns columns = cachedColumns(userId, month);
+            Double sum = columns != null
+                    ? fromMinor(columns.total(firstDay(year, month), firstDay(year, month + 1), transactionTypeId))
+                    : transactionRollupRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, month, year);
+            return sum != null ? sum : 0.0;
+        });
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        total != null ? total : 0.0
+                        total
                 )
         );
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalNoOfTransactionsByUser(Long userId,  int month, int year) {
-        Integer count = transactionRepository.findTotalNoOfTransactionsByUser(userId, month, year);
+        Integer count = reportResultCache.get(userId, "noOfTransactions", Arrays.asList(month, year), () -> {
+            UserTransactionColumns columns = cachedColumns(userId, month);
+            Long rows = columns != null
+                    ? (long) columns.count(firstDay(year, month), firstDay(year, month + 1))
+                    : transactionRollupRepository.findTotalNoOfTransactionsByUser(userId, month, year);
+            return rows != null ? rows.intValue() : 0;
+        });
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        count != null ? count : 0
+                        count
                 )
         );
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalExpenseByCategoryAndUser(String email, int categoryId, int month, int year) {
-        Double total = transactionRepository.findTotalByUserAndCategory(email, categoryId, month, year);
+        Double total = reportResultCache.getByEmail(email, "totalByCategory", Arrays.asList(categoryId, month, year), () -> {
+            UserTransactionColumns columns = month >= 1 && month <= 12 ? transactionAnalyticsCache.forEmail(email) : null;
+            Double sum = columns != null
+                    ? fromMinor(columns.totalForCategory(firstDay(year, month), firstDay(year, month + 1), categoryId))
+                    : transactionRollupRepository.findTotalByUserAndCategory(email, categoryId, month, year);
+            return sum != null ? sum : 0.0;
+        });
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        total
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTotalsByCategory(Long userId, List<Integer> categoryIds, Integer month, Integer year,
+                                                                 LocalDate from, LocalDate to) throws TransactionServiceLogicException {
+        boolean byMonth = month != null && year != null && from == null && to == null;
+        if (byMonth) {
+            if (month < 1 || month > 12) {
+                throw new TransactionServiceLogicException("Month must be between 1 and 12");
+            }
+        } else if (from != null && to != null && month == null && year == null) {
+            if (to.isBefore(from)) {
+                throw new TransactionServiceLogicException("The end date must not be before the start date");
+            }
+        } else {
+            throw new TransactionServiceLogicException("Give either a month and year or a from and to date");
+        }
+
+        List<Integer> wantedIds = categoryIds != null && !categoryIds.isEmpty() ? List.copyOf(categoryIds) : null;
+        List<CategoryTotalDto> totals = reportResultCache.get(userId, "totalsByCategory",
+                Arrays.asList(wantedIds, month, year, from, to), () -> {
+            UserTransactionColumns columns = transactionAnalyticsCache.forUser(userId);
+            List<CategoryTotalDto> rows;
+            if (byMonth) {
+                rows = columns != null
+                        ? columns.categoryTotals(firstDay(year, month), firstDay(year, month + 1), transactionAnalyticsCache::categoryName)
+                        : transactionRollupRepository.findCategoryTotalsByUser(userId, month, year);
+            } else {
+                rows = columns != null
+                        ? columns.categoryTotals(UserTransactionColumns.day(from), UserTransactionColumns.day(to) + 1,
+                        transactionAnalyticsCache::categoryName)
+                        : transactionRepository.findCategoryTotalsByUserBetween(userId, from, to.plusDays(1));
+            }
+
+            // A user touches a few dozen categories at most, so the id filter is applied to the
+            // grouped rows rather than being threaded through every query variant.
+            if (wantedIds != null) {
+                Set<Integer> wanted = new HashSet<>(wantedIds);
+                rows = rows.stream().filter(total -> wanted.contains(total.getCategoryId())).toList();
+            }
+            return rows;
+        });
+
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        total != null ? total : 0.0
+                        totals
                 )
         );
     }
@@ -70,9 +196,18 @@ public class ReportServiceImpl implements ReportService {
     @Override
     public ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(String email) {
         try {
-            List<Object[]> result = transactionRepository.findMonthlySummaryByUser(email);
+            // The current month and the eleven before it.
+            LocalDate from = LocalDate.now().minusMonths(11);
+            List<TransactionsMonthlySummaryDto> transactionsMonthlySummary = reportResultCache.getByEmail(email,
+                    "monthlySummary", List.of(YearMonth.from(from)), () -> {
+                UserTransactionColumns columns = transactionAnalyticsCache.forEmail(email);
+                return columns != null
+                        ? monthlySummary(columns, YearMonth.from(from))
+                        : toMonthlySummary(transactionRollupRepository.findMonthlySummaryByUser(
+                        email, from.getYear(), from.getMonthValue()));
+            });
 
-            if (result == null || result.isEmpty()) {
+            if (transactionsMonthlySummary.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                                 HttpStatus.OK,
@@ -81,13 +216,6 @@ public class ReportServiceImpl implements ReportService {
                 );
             }
 
-            List<TransactionsMonthlySummaryDto> transactionsMonthlySummary = result.stream()
-                    .map(data -> new TransactionsMonthlySummaryDto(
-                            (int) data[0],
-                            data[1] != null ? (double) data[1] : 0.0,
-                            data[2] != null ? (double) data[2] : 0.0
-                    )).toList();
-
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                             HttpStatus.OK,
@@ -106,112 +234,375 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
-    public ResponseEntity<byte[]> exportUserTransactionsPdf(String email) {
+    public ResponseEntity<ApiResponseDto<?>> getTimeSeries(Long userId, String granularity, LocalDate from, LocalDate to,
+                                                           Integer categoryId, Integer transactionTypeId)
+            throws TransactionServiceLogicException {
+        ETimeGranularity timeGranularity;
+        try {
+            timeGranularity = ETimeGranularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException("Granularity must be one of day, week, month or year");
+        }
+        if (to.isBefore(from)) {
+            throw new TransactionServiceLogicException("The end date must not be before the start date");
+        }
+        if (TimeSeriesBuckets.count(timeGranularity, from, to) > MAX_TIME_SERIES_BUCKETS) {
+            throw new TransactionServiceLogicException(
+                    "Too many " + timeGranularity.name().toLowerCase() + "s in range: use a coarser granularity");
+        }
+
+        List<TimeSeriesBucketDto> series = reportResultCache.get(userId, "timeSeries",
+                Arrays.asList(timeGranularity, from, to, categoryId, transactionTypeId),
+                () -> timeSeries(userId, timeGranularity, from, to, categoryId, transactionTypeId));
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        series
+                )
+        );
+    }
+
+    private List<TimeSeriesBucketDto> timeSeries(Long userId, ETimeGranularity timeGranularity, LocalDate from, LocalDate to,
+                                                 Integer categoryId, Integer transactionTypeId) {
+        TimeSeriesBuckets buckets = new TimeSeriesBuckets(timeGranularity, from, to);
+        UserTransactionColumns columns = transactionAnalyticsCache.forUser(userId);
+        if (columns != null) {
+            int[] bounds = buckets.boundaries();
+            long[] expense = new long[bounds.length - 1];
+            long[] income = new long[bounds.length - 1];
+            columns.bucketTotals(bounds, categoryId, transactionTypeId, expense, income, new int[bounds.length - 1]);
+            for (int i = 0; i < expense.length; i++) {
+                LocalDate start = LocalDate.ofEpochDay(bounds[i]);
+                buckets.add(start, 1, UserTransactionColumns.fromMinor(expense[i]));
+                buckets.add(start, 2, UserTransactionColumns.fromMinor(income[i]));
+            }
+        } else if (timeGranularity == ETimeGranularity.MONTH || timeGranularity == ETimeGranularity.YEAR) {
+            // Whole month buckets line up with the rollup, so the read is months x categories.
+            LocalDate last = buckets.endExclusive().minusDays(1);
+            for (Object[] row : transactionRollupRepository.findMonthlyTotalsByUserBetween(userId,
+                    buckets.start().getYear(), buckets.start().getMonthValue(), last.getYear(), last.getMonthValue(),
+                    categoryId, transactionTypeId)) {
+                buckets.add(LocalDate.of((int) row[0], (int) row[1], 1), (int) row[2], (double) row[3]);
+            }
+        } else {
+            for (Object[] row : transactionRepository.findDailyTotalsByUserBetween(userId,
+                    buckets.start(), buckets.endExclusive(), categoryId, transactionTypeId)) {
+                buckets.add((LocalDate) row[0], (int) row[1], (double) row[2]);
+            }
+        }
+        return buckets.toList();
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getDashboard(Long userId, int month, int year) throws TransactionServiceLogicException {
+        if (month < 1 || month > 12) {
+            throw new TransactionServiceLogicException("Month must be between 1 and 12");
+        }
+        DashboardResponseDto dashboard = reportResultCache.get(userId, "dashboard", Arrays.asList(month, year),
+                () -> dashboard(userId, month, year));
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        dashboard
+                )
+        );
+    }
+
+    private DashboardResponseDto dashboard(Long userId, int month, int year) throws TransactionServiceLogicException {
+        // The month's category rows, the twelve month trend and the budget are independent
+        // lookups, so they run side by side; the headline figures are folded from the category rows.
+        // With the user's snapshot cached the whole dashboard is answered from memory.
+        YearMonth from = YearMonth.of(year, month).minusMonths(11);
+        UserTransactionColumns columns = transactionAnalyticsCache.forUser(userId);
+        CompletableFuture<List<CategoryTotalDto>> categoryTotals = columns != null
+                ? CompletableFuture.completedFuture(columns.categoryTotals(firstDay(year, month), firstDay(year, month + 1),
+                transactionAnalyticsCache::categoryName))
+                : CompletableFuture.supplyAsync(
+                () -> transactionRollupRepository.findCategoryTotalsByUser(userId, month, year), dashboardExecutor);
+        CompletableFuture<List<TransactionsMonthlySummaryDto>> monthlySummary = columns != null
+                ? CompletableFuture.completedFuture(monthlySummary(columns, from))
+                : CompletableFuture.supplyAsync(() -> toMonthlySummary(
+                transactionRollupRepository.findMonthlySummaryByUserId(userId, from.getYear(), from.getMonthValue())),
+                dashboardExecutor);
+        CompletableFuture<Double> budget = columns != null
+                ? CompletableFuture.completedFuture(transactionAnalyticsCache.budget(userId, month, year))
+                : CompletableFuture.supplyAsync(() -> {
+            Budget monthBudget = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+            return monthBudget == null ? 0.0 : monthBudget.getAmount();
+        }, dashboardExecutor);
+
+        try {
+            double totalIncome = 0;
+            double totalExpense = 0;
+            long noOfTransactions = 0;
+            for (CategoryTotalDto categoryTotal : categoryTotals.join()) {
+                if (ETransactionType.isIncome(categoryTotal.getTransactionTypeId())) {
+                    totalIncome += categoryTotal.getTotal();
+                } else {
+                    totalExpense += categoryTotal.getTotal();
+                }
+                noOfTransactions += categoryTotal.getNoOfTransactions();
+            }
+
+            return new DashboardResponseDto(
+                    month,
+                    year,
+                    totalIncome,
+                    totalExpense,
+                    noOfTransactions,
+                    budget.join(),
+                    categoryTotals.join(),
+                    monthlySummary.join()
+            );
+        } catch (CompletionException e) {
+            log.error("Failed to build dashboard for user {}: {}", userId, e.getCause().getMessage(), e.getCause());
+            throw new TransactionServiceLogicException("Failed to fetch dashboard: Try again later!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getReportCacheStats() {
+        ReportCacheStatsResponseDto stats = reportResultCache.stats();
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        stats
+                )
+        );
+    }
+
+    private static List<TransactionsMonthlySummaryDto> toMonthlySummary(List<Object[]> rows) {
+        return rows.stream()
+                .map(data -> new TransactionsMonthlySummaryDto(
+                        (int) data[0],
+                        (int) data[1],
+                        data[2] != null ? (double) data[2] : 0.0,
+                        data[3] != null ? (double) data[3] : 0.0
+                )).toList();
+    }
+
+    // Twelve months from the given one, skipping months without transactions like the rollup reads.
+    private static List<TransactionsMonthlySummaryDto> monthlySummary(UserTransactionColumns columns, YearMonth from) {
+        int[] bounds = new int[13];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = UserTransactionColumns.day(from.plusMonths(i).atDay(1));
+        }
+        long[] expense = new long[12];
+        long[] income = new long[12];
+        int[] counts = new int[12];
+        columns.bucketTotals(bounds, null, null, expense, income, counts);
+
+        List<TransactionsMonthlySummaryDto> summary = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                YearMonth period = from.plusMonths(i);
+                summary.add(new TransactionsMonthlySummaryDto(period.getYear(), period.getMonthValue(),
+                        UserTransactionColumns.fromMinor(expense[i]), UserTransactionColumns.fromMinor(income[i])));
+            }
+        }
+        return summary;
+    }
+
+    // The cached snapshot for month based reads; invalid months keep the rollup query's answer.
+    private UserTransactionColumns cachedColumns(Long userId, int month) {
+        return month >= 1 && month <= 12 ? transactionAnalyticsCache.forUser(userId) : null;
+    }
+
+    // Epoch day of the first of the month; month 13 stands for January of the next year.
+    private static int firstDay(int year, int month) {
+        return UserTransactionColumns.day(YearMonth.of(year, 1).plusMonths(month - 1).atDay(1));
+    }
+
+    // Keeps the null of an empty sum, as the rollup query returns it.
+    private static Double fromMinor(Long amount) {
+        return amount != null ? UserTransactionColumns.fromMinor(amount) : null;
+    }
+
+    @PreDestroy
+    void shutdownDashboardExecutor() {
+        dashboardExecutor.shutdown();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUserTransactionsPdf(String email) {
         log.info("Exporting PDF for user: {}", email);
         if (email == null || email.trim().isEmpty()) {
             log.error("Email parameter is null or empty");
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
-        List<Transaction> transactions = transactionRepository.findByUser_EmailOrderByDateDesc(email);
-        if (transactions == null || transactions.isEmpty()) {
+        if (!transactionRepository.existsByUser_Email(email)) {
             log.warn("No transactions found for user: {}", email);
             return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
         }
 
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Document document = new Document();
-            PdfWriter.getInstance(document, out);
-            document.open();
-
-            document.add(new Paragraph("Transactions Report for " + email));
-            document.add(new Paragraph(" "));
-
-            PdfPTable table = new PdfPTable(4);
-            table.setWidthPercentage(100);
-            table.setWidths(new float[]{2f, 2f, 5f, 2f});
-            table.addCell(new PdfPCell(new Paragraph("Date")));
-            table.addCell(new PdfPCell(new Paragraph("Category")));
-            table.addCell(new PdfPCell(new Paragraph("Description")));
-            table.addCell(new PdfPCell(new Paragraph("Amount")));
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            for (Transaction t : transactions) {
-                table.addCell(new PdfPCell(new Paragraph(t.getDate() != null ? t.getDate().format(formatter) : "")));
-                table.addCell(new PdfPCell(new Paragraph(
-                        t.getCategory() != null ? t.getCategory().getCategoryName() : ""
-                )));
-                table.addCell(new PdfPCell(new Paragraph(t.getDescription() != null ? t.getDescription() : "")));
-                table.addCell(new PdfPCell(new Paragraph(String.valueOf(t.getAmount()))));
-            }
+        StreamingResponseBody body = out -> writeUserTransactions(email, EExportFormat.PDF, out);
 
-            document.add(table);
-            document.close();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "transactions-report.pdf");
 
-            byte[] pdfBytes = out.toByteArray();
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "transactions-report.pdf");
+    // Rows go from the cursor into the document and out to the stream in chunks, so memory stays
+    // flat however long the history is.
+    @Override
+    public void writeUserTransactions(String email, EExportFormat format, OutputStream out) throws IOException {
+        if (format == EExportFormat.CSV || format == EExportFormat.NDJSON) {
+            writeRawTransactions(email, format, out);
+            return;
+        }
+        try {
+            readOnlyTransaction().executeWithoutResult(status -> {
+                try (Stream<TransactionResponseDto> rows = transactionRepository.streamResponsesByUserEmail(email)) {
+                    if (format == EExportFormat.PDF) {
+                        writeTransactionsPdf(email, rows, out);
+                    } else {
+                        TransactionSpreadsheetWriter.write(rows, out);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.error("Failed to export transactions {} for user {}: {}", format, email, e.getMessage(), e);
+            throw e.getCause();
+        }
+    }
 
-            return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
-        } catch (Exception e) {
-            log.error("Failed to export transactions PDF for user {}: {}", email, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    private void writeRawTransactions(String email, EExportFormat format, OutputStream out) throws IOException {
+        TransactionRowWriter writer = format == EExportFormat.CSV
+                ? TransactionRowWriter.csv(out) : TransactionRowWriter.ndjson(out);
+        try {
+            writer.writeHeader();
+            transactionExportRepository.streamByUserEmail(email, writer::writeRow);
+            writer.flush();
+        } catch (IOException e) {
+            log.error("Failed to export transactions {} for user {}: {}", format, email, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private void writeTransactionsPdf(String email, Stream<TransactionResponseDto> rows, OutputStream out)
+            throws IOException {
+        try {
+            writePdfDocument(email, rows, out);
+        } catch (DocumentException e) {
+            throw new IOException("Failed to write PDF document", e);
         }
     }
 
+    private void writePdfDocument(String email, Stream<TransactionResponseDto> rows, OutputStream out)
+            throws DocumentException, IOException {
+        Document document = new Document();
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+
+        document.add(new Paragraph("Transactions Report for " + email));
+        document.add(new Paragraph(" "));
+
+        // An incomplete table is written out and emptied on every document.add.
+        PdfPTable table = new PdfPTable(4);
+        table.setWidthPercentage(100);
+        table.setWidths(new float[]{2f, 2f, 5f, 2f});
+        table.setHeaderRows(1);
+        table.setComplete(false);
+        table.addCell("Date");
+        table.addCell("Category");
+        table.addCell("Description");
+        table.addCell("Amount");
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        int pending = 0;
+        for (TransactionResponseDto t : (Iterable<TransactionResponseDto>) rows::iterator) {
+            table.addCell(t.getDate() != null ? t.getDate().format(formatter) : "");
+            table.addCell(t.getCategoryName() != null ? t.getCategoryName() : "");
+            table.addCell(t.getDescription() != null ? t.getDescription() : "");
+            table.addCell(String.valueOf(t.getAmount()));
+            if (++pending == EXPORT_FLUSH_ROWS) {
+                document.add(table);
+                out.flush();
+                pending = 0;
+            }
+        }
+
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+        out.flush();
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
     @Override
-    public ResponseEntity<byte[]> exportUserTransactionsExcel(String email) {
+    public ResponseEntity<StreamingResponseBody> exportUserTransactionsExcel(String email) {
         log.info("Exporting Excel for user: {}", email);
         if (email == null || email.trim().isEmpty()) {
             log.error("Email parameter is null or empty");
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
-        List<Transaction> transactions = transactionRepository.findByUser_EmailOrderByDateDesc(email);
-        if (transactions == null || transactions.isEmpty()) {
+        if (!transactionRepository.existsByUser_Email(email)) {
             log.warn("No transactions found for user: {}", email);
             return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
         }
 
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Transactions");
+        StreamingResponseBody body = out -> writeUserTransactions(email, EExportFormat.EXCEL, out);
 
-            // Header
-            Row header = sheet.createRow(0);
-            header.createCell(0).setCellValue("Date");
-            header.createCell(1).setCellValue("Category");
-            header.createCell(2).setCellValue("Description");
-            header.createCell(3).setCellValue("Amount");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(
+                MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+        );
+        headers.setContentDispositionFormData("attachment", "transactions-report.xlsx");
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            int rowIdx = 1;
-            for (Transaction t : transactions) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(t.getDate() != null ? t.getDate().format(formatter) : "");
-                row.createCell(1).setCellValue(
-                        t.getCategory() != null ? t.getCategory().getCategoryName() : ""
-                );
-                row.createCell(2).setCellValue(t.getDescription() != null ? t.getDescription() : "");
-                row.createCell(3).setCellValue(t.getAmount());
-            }
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
 
-            for (int i = 0; i < 4; i++) {
-                sheet.autoSizeColumn(i);
-            }
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUserTransactionsCsv(String email, boolean gzip) {
+        return exportRawTransactions(email, EExportFormat.CSV, gzip);
+    }
 
-            workbook.write(out);
-            byte[] excelBytes = out.toByteArray();
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUserTransactionsNdjson(String email, boolean gzip) {
+        return exportRawTransactions(email, EExportFormat.NDJSON, gzip);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(
-                    MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-            );
-            headers.setContentDispositionFormData("attachment", "transactions-report.xlsx");
+    private ResponseEntity<StreamingResponseBody> exportRawTransactions(String email, EExportFormat format, boolean gzip) {
+        log.info("Exporting {} for user: {} (gzip: {})", format, email, gzip);
+        if (email == null || email.trim().isEmpty()) {
+            log.error("Email parameter is null or empty");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        if (!transactionRepository.existsByUser_Email(email)) {
+            log.warn("No transactions found for user: {}", email);
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        }
 
-            return new ResponseEntity<>(excelBytes, headers, HttpStatus.OK);
-        } catch (Exception e) {
-            log.error("Failed to export transactions Excel for user {}: {}", email, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        String fileName = format == EExportFormat.CSV ? "transactions.csv" : "transactions.ndjson";
+        HttpHeaders headers = new HttpHeaders();
+        StreamingResponseBody body;
+        if (gzip) {
+            body = out -> {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                writeUserTransactions(email, format, compressed);
+                compressed.finish();
+            };
+            headers.setContentType(MediaType.parseMediaType("application/gzip"));
+            fileName += ".gz";
+        } else {
+            body = out -> writeUserTransactions(email, format, out);
+            headers.setContentType(format == EExportFormat.CSV
+                    ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                    : MediaType.parseMediaType("application/x-ndjson"));
         }
+        headers.setContentDispositionFormData("attachment", fileName);
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 }
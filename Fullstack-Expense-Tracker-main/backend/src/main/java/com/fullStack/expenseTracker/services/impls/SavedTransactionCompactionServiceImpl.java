@@ -0,0 +1,156 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.SavedTransactionCompactionResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ECompactionMode;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.reports.ReportResultCache;
+import com.fullStack.expenseTracker.repository.JobLeaseRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.services.SavedTransactionCompactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Removes the saved transactions that mirror transactions dated before the retention cutoff, which
+// otherwise grow with every transaction recorded; one time plans users create are kept. The
+// schedule is off unless app.saved.compaction.enabled is set; admins can still run it by hand.
+// ARCHIVE copies each chunk to saved_transaction_archive before deleting it, DELETE only deletes.
+// Every chunk is its own database transaction that first renews the job_lease row, as the
+// recurring materializer does.
+@Component
+@Slf4j
+public class SavedTransactionCompactionServiceImpl implements SavedTransactionCompactionService {
+
+    static final String JOB_NAME = "saved_transaction_compaction";
+
+    private static final long LEASE_SECONDS = 300;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private ReportResultCache reportResultCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.saved.compaction.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.saved.compaction.mode:ARCHIVE}")
+    private ECompactionMode mode;
+
+    @Value("${app.saved.compaction.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.saved.compaction.chunk-size:1000}")
+    private int chunkSize;
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    private volatile SavedTransactionCompactionResponseDto lastReport;
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> compact() throws TransactionServiceLogicException {
+        SavedTransactionCompactionResponseDto report = runCompaction();
+        if (report == null) {
+            throw new TransactionServiceLogicException("Saved transaction compaction is already running, please try again later!");
+        }
+        return ResponseEntity.ok(new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, report));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getLastReport() {
+        return ResponseEntity.ok(new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, lastReport));
+    }
+
+    @Override
+    @Scheduled(cron = "${app.saved.compaction.cron:0 0 5 * * *}")
+    public void compactOnSchedule() {
+        if (enabled) {
+            runCompaction();
+        }
+    }
+
+    // Null when another instance holds the lease.
+    private SavedTransactionCompactionResponseDto runCompaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLeaseRepository.acquire(JOB_NAME, instanceId, now, now.plusSeconds(LEASE_SECONDS)));
+        if (acquired == null || acquired == 0) {
+            log.debug("Saved transaction compaction is running on another instance");
+            return null;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        long reclaimed = 0;
+        int chunks = 0;
+        try {
+            while (true) {
+                Integer removed = transactionTemplate.execute(status -> compactChunk(cutoff));
+                if (removed == null || removed < 0) {
+                    log.warn("Saved transaction compaction lost its lease, stopping after {} rows", reclaimed);
+                    break;
+                }
+                if (removed == 0) {
+                    break;
+                }
+                reclaimed += removed;
+                chunks++;
+                if (removed < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Finished chunks stay committed; the rest is picked up by the next run.
+            log.error("Saved transaction compaction failed after {} rows: {}", reclaimed, e.getMessage(), e);
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.release(JOB_NAME, instanceId, LocalDateTime.now()));
+        }
+        if (reclaimed > 0) {
+            reportResultCache.allChanged();
+        }
+
+        SavedTransactionCompactionResponseDto report = new SavedTransactionCompactionResponseDto(mode.name(), cutoff,
+                reclaimed, chunks, System.currentTimeMillis() - started, LocalDateTime.now());
+        log.info("Compacted saved transactions: {}", report);
+        lastReport = report;
+        return report;
+    }
+
+    // Rows removed by one chunk, or -1 when the lease has run out.
+    private int compactChunk(LocalDate cutoff) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobLeaseRepository.renew(JOB_NAME, instanceId, now, now.plusSeconds(LEASE_SECONDS)) == 0) {
+            return -1;
+        }
+        List<Long> planIds = savedTransactionRepository.findCompactableIds(cutoff, chunkSize);
+        if (planIds.isEmpty()) {
+            return 0;
+        }
+        if (mode == ECompactionMode.ARCHIVE) {
+            savedTransactionRepository.archiveByPlanIds(planIds, now);
+        }
+        return savedTransactionRepository.deleteByPlanIds(planIds);
+    }
+}
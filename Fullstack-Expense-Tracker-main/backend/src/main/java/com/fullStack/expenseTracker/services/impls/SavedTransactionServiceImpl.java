@@ -1,36 +1,74 @@
 package com.fullStack.expenseTracker.services.impls;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchResultDto;
+import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.SavedTransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.exports.TransactionRowWriter;
+import com.fullStack.expenseTracker.models.Category;
 import com.fullStack.expenseTracker.models.SavedTransaction;
 import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.recurring.OccurrenceCalendar;
+import com.fullStack.expenseTracker.recurring.RecurrenceRule;
+import com.fullStack.expenseTracker.reports.ReportResultCache;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionBatchRepository;
 import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionBatchRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.CategoryService;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class SavedTransactionServiceImpl implements SavedTransactionService {
+
+    // Longest calendar range, about five years.
+    private static final long MAX_CALENDAR_DAYS = 1830;
+
+    private static final int MAX_BULK_SIZE = 500;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -40,13 +78,29 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    private SavedTransactionBatchRepository savedTransactionBatchRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReportResultCache reportResultCache;
+
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> createSavedTransaction(SavedTransactionRequestDto requestDto)
             throws UserServiceLogicException, UserNotFoundException {
+        validateRecurrence(requestDto);
         try {
             if (userRepository.existsById(requestDto.getUserId())) {
                 SavedTransaction plannedTransaction = Objects.requireNonNull(
@@ -54,6 +108,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                         "Saved transaction mapping returned null"
                 );
                 plannedTransaction = savedTransactionRepository.save(plannedTransaction);
+                reportResultCache.userChanged(plannedTransaction.getUserId());
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -70,22 +125,23 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId)
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId, LocalDate date)
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (savedTransactionRepository.existsById(savedTransactionId)) {
-                SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId)
-                        .orElse(null);
+            SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId).orElse(null);
+            if (plannedTransaction != null) {
+                LocalDate dueDate = date != null ? date : plannedTransaction.getUpcomingDate();
+                if (!claimOccurrence(plannedTransaction, dueDate)) {
+                    return occurrenceConflict();
+                }
 
-                transactionRepository.save(Objects.requireNonNull(
-                        savedTransactionToTransaction(plannedTransaction),
+                Transaction transaction = transactionRepository.save(Objects.requireNonNull(
+                        savedTransactionToTransaction(plannedTransaction, dueDate),
                         "Saved transaction conversion returned null"
                 ));
-
-                LocalDate upcomingDate = getUpcomingDate(plannedTransaction.getFrequency(), plannedTransaction.getUpcomingDate());
-
-                plannedTransaction.setUpcomingDate(upcomingDate);
-                savedTransactionRepository.save(plannedTransaction);
+                eventPublisher.publishEvent(TransactionChangedEvent.created(TransactionSnapshot.of(transaction)));
+                reportResultCache.userChanged(plannedTransaction.getUserId());
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -104,6 +160,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     @Override
     public ResponseEntity<ApiResponseDto<?>> editSavedTransaction(long plannedTransactionId, SavedTransactionRequestDto requestDto)
             throws UserServiceLogicException, TransactionNotFoundException {
+        validateRecurrence(requestDto);
         try {
             if (savedTransactionRepository.existsById(plannedTransactionId)) {
                 SavedTransaction plannedTransaction = savedTransactionRepository.findById(plannedTransactionId)
@@ -115,8 +172,11 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                 plannedTransaction.setFrequency(requestDto.getFrequency());
                 plannedTransaction.setUpcomingDate(requestDto.getUpcomingDate());
                 plannedTransaction.setCategoryId(requestDto.getCategoryId());
+                plannedTransaction.setRecurrenceInterval(recurrenceInterval(requestDto));
+                plannedTransaction.setDayOfMonth(dayOfMonth(requestDto));
 
                 plannedTransaction = savedTransactionRepository.save(plannedTransaction);
+                reportResultCache.userChanged(plannedTransaction.getUserId());
 
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -137,8 +197,11 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
             if (savedTransactionRepository.existsById(plannedTransactionId)) {
+                SavedTransaction plannedTransaction = savedTransactionRepository.findById(plannedTransactionId)
+                        .orElse(null);
 
-                savedTransactionRepository.deleteById(plannedTransactionId);
+                savedTransactionRepository.delete(plannedTransaction);
+                reportResultCache.userChanged(plannedTransaction.getUserId());
 
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -155,16 +218,16 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId) throws UserServiceLogicException, TransactionNotFoundException {
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> skipSavedTransaction(long savedTransactionId, LocalDate date)
+            throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (savedTransactionRepository.existsById(savedTransactionId)) {
-                SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId)
-                        .orElse(null);
-
-                LocalDate upcomingDate = getUpcomingDate(plannedTransaction.getFrequency(), plannedTransaction.getUpcomingDate());
-
-                plannedTransaction.setUpcomingDate(upcomingDate);
-                savedTransactionRepository.save(plannedTransaction);
+            SavedTransaction plannedTransaction = savedTransactionRepository.findById(savedTransactionId).orElse(null);
+            if (plannedTransaction != null) {
+                if (!claimOccurrence(plannedTransaction, date != null ? date : plannedTransaction.getUpcomingDate())) {
+                    return occurrenceConflict();
+                }
+                reportResultCache.userChanged(plannedTransaction.getUserId());
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(
                         new ApiResponseDto<>(
@@ -180,6 +243,136 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         throw new TransactionNotFoundException("Transaction not found with id: " + savedTransactionId);
     }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> addSavedTransactions(List<Long> savedTransactionIds)
+            throws UserServiceLogicException {
+        return advanceSavedTransactions(savedTransactionIds, true);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> skipSavedTransactions(List<Long> savedTransactionIds)
+            throws UserServiceLogicException {
+        return advanceSavedTransactions(savedTransactionIds, false);
+    }
+
+    // Posts (or skips) the upcoming occurrence of every given plan in one database transaction: one
+    // select for the plans, one batched update claiming their occurrences and one batched insert for
+    // the transactions. The id of a posted result is the new transaction's, otherwise the plan's.
+    private ResponseEntity<ApiResponseDto<?>> advanceSavedTransactions(List<Long> savedTransactionIds, boolean post)
+            throws UserServiceLogicException {
+        if (savedTransactionIds == null || savedTransactionIds.isEmpty()) {
+            throw new UserServiceLogicException("No saved transactions given!");
+        }
+        if (savedTransactionIds.size() > MAX_BULK_SIZE) {
+            throw new UserServiceLogicException("At most " + MAX_BULK_SIZE + " saved transactions can be handled at once!");
+        }
+
+        BatchItemResultDto[] results = new BatchItemResultDto[savedTransactionIds.size()];
+        try {
+            Map<Long, SavedTransaction> plans = savedTransactionRepository.findAllById(savedTransactionIds.stream()
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(SavedTransaction::getPlanId, Function.identity()));
+            Map<Long, User> users = Map.of();
+            Map<Integer, Category> categories = Map.of();
+            if (post) {
+                users = userRepository.findAllById(plans.values().stream().map(SavedTransaction::getUserId)
+                                .collect(Collectors.toSet())).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+                categories = categoryRepository.findAllById(plans.values().stream().map(SavedTransaction::getCategoryId)
+                                .collect(Collectors.toSet())).stream()
+                        .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+            }
+
+            Set<Long> seen = new HashSet<>();
+            List<Integer> candidates = new ArrayList<>();
+            for (int i = 0; i < savedTransactionIds.size(); i++) {
+                Long id = savedTransactionIds.get(i);
+                SavedTransaction plan = id == null ? null : plans.get(id);
+                if (plan == null) {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, id, "Transaction not found with id: " + id);
+                    continue;
+                }
+                if (!seen.add(id)) {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, id, "This saved transaction is given more than once");
+                    continue;
+                }
+                if (plan.getUpcomingDate() == null) {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, id, "This saved transaction has no upcoming date");
+                    continue;
+                }
+                if (post && (users.get(plan.getUserId()) == null || categories.get(plan.getCategoryId()) == null)) {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, id,
+                            "The user or category of this saved transaction no longer exists");
+                    continue;
+                }
+                candidates.add(i);
+            }
+
+            // Each occurrence is claimed with the conditional update of claimOccurrence, batched and in
+            // plan order, so an occurrence added or skipped meanwhile fails on its own instead of
+            // rolling the whole call back. The loaded plans are stale afterwards and are not saved.
+            candidates.sort(Comparator.comparing(savedTransactionIds::get));
+            boolean[] claimed = savedTransactionBatchRepository.claimAll(candidates.stream()
+                    .map(i -> plans.get(savedTransactionIds.get(i)))
+                    .map(plan -> new SavedTransactionBatchRepository.Claim(plan.getPlanId(), plan.getUpcomingDate(),
+                            getUpcomingDate(plan)))
+                    .toList());
+
+            Set<Long> changedUsers = new HashSet<>();
+            List<Transaction> transactions = new ArrayList<>();
+            List<Integer> transactionIndexes = new ArrayList<>();
+            for (int k = 0; k < candidates.size(); k++) {
+                int i = candidates.get(k);
+                SavedTransaction plan = plans.get(savedTransactionIds.get(i));
+                if (!claimed[k]) {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, plan.getPlanId(),
+                            "This occurrence has already been added or skipped!");
+                    continue;
+                }
+                if (post) {
+                    transactions.add(new Transaction(users.get(plan.getUserId()), categories.get(plan.getCategoryId()),
+                            plan.getDescription(), plan.getAmount(), plan.getUpcomingDate()));
+                    transactionIndexes.add(i);
+                } else {
+                    results[i] = new BatchItemResultDto(i, ApiResponseStatus.SUCCESS, plan.getPlanId(),
+                            "Transaction has been successfully skipped for period!");
+                }
+                changedUsers.add(plan.getUserId());
+            }
+
+            if (!transactions.isEmpty()) {
+                transactionBatchRepository.insertAll(transactions);
+                for (int k = 0; k < transactions.size(); k++) {
+                    Transaction transaction = transactions.get(k);
+                    eventPublisher.publishEvent(TransactionChangedEvent.created(TransactionSnapshot.of(transaction)));
+                    results[transactionIndexes.get(k)] = new BatchItemResultDto(transactionIndexes.get(k),
+                            ApiResponseStatus.SUCCESS, transaction.getTransactionId(), "Transaction has been successfully saved!");
+                }
+            }
+            changedUsers.forEach(reportResultCache::userChanged);
+        } catch (RuntimeException e) {
+            log.error("Failed to {} saved transactions {}: {}", post ? "add" : "skip", savedTransactionIds, e.getMessage(), e);
+            throw new UserServiceLogicException("Failed to update saved transactions. Try again later");
+        }
+
+        List<BatchItemResultDto> resultList = Arrays.asList(results);
+        int succeeded = (int) resultList.stream().filter(r -> r.getStatus() == ApiResponseStatus.SUCCESS).count();
+        int failed = resultList.size() - succeeded;
+
+        HttpStatus httpStatus = failed == 0 ? (post ? HttpStatus.CREATED : HttpStatus.OK)
+                : succeeded == 0 ? HttpStatus.BAD_REQUEST : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(httpStatus).body(
+                new ApiResponseDto<>(
+                        succeeded == 0 ? ApiResponseStatus.FAILED : ApiResponseStatus.SUCCESS,
+                        httpStatus,
+                        new BatchResultDto(resultList.size(), succeeded, failed, resultList)
+                )
+        );
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUser(long userId) throws UserServiceLogicException, UserNotFoundException {
         try {
@@ -208,24 +401,58 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId) throws UserServiceLogicException, UserNotFoundException {
+    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId, Integer month, Integer year,
+                                                                              LocalDate from, LocalDate to,
+                                                                              int pageNumber, int pageSize)
+            throws UserServiceLogicException, UserNotFoundException {
+        // Without a range this is the current month, as before.
+        LocalDate start;
+        LocalDate end;
+        if (from == null && to == null) {
+            YearMonth period = YearMonth.now();
+            if (month != null || year != null) {
+                if (month != null && (month < 1 || month > 12)) {
+                    throw new UserServiceLogicException("Month must be between 1 and 12");
+                }
+                period = YearMonth.of(year != null ? year : period.getYear(), month != null ? month : period.getMonthValue());
+            }
+            start = period.atDay(1);
+            end = period.plusMonths(1).atDay(1);
+        } else if (from != null && to != null && month == null && year == null) {
+            if (to.isBefore(from)) {
+                throw new UserServiceLogicException("The end date must not be before the start date");
+            }
+            start = from;
+            end = to.plusDays(1);
+        } else {
+            throw new UserServiceLogicException("Give either a month and year or a from and to date");
+        }
+        if (pageNumber < 0) {
+            throw new UserServiceLogicException("Page number must not be negative");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new UserServiceLogicException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
         try {
             if (userRepository.existsById(userId)) {
-                List<SavedTransaction> transactions = savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(userId).stream()
-                        .filter(t -> t.getUpcomingDate().getMonthValue() == LocalDate.now().getMonthValue())
-                        .toList();
+                Page<Object[]> rows = savedTransactionRepository.findWithCategoryNameByUserBetween(
+                        userId, start, end, PageRequest.of(pageNumber, pageSize));
 
-                List<SavedTransactionResponseDto> response = new ArrayList<>();
-
-                for (SavedTransaction t: transactions) {
-                    response.add(savedTransactionToDto(t));
+                List<SavedTransactionResponseDto> response = new ArrayList<>(rows.getNumberOfElements());
+                for (Object[] row : rows.getContent()) {
+                    response.add(savedTransactionToDto((SavedTransaction) row[0], (String) row[1]));
                 }
 
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
                                 ApiResponseStatus.SUCCESS,
                                 HttpStatus.OK,
-                                response
+                                new PageResponseDto<>(
+                                        response,
+                                        rows.getTotalPages(),
+                                        rows.getTotalElements()
+                                )
                         )
                 );
 
@@ -259,6 +486,45 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         throw new TransactionNotFoundException("Transaction not found with id: " + savedTransactionId);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> getCalendar(long userId, LocalDate from, LocalDate to)
+            throws UserServiceLogicException, UserNotFoundException {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new UserServiceLogicException("Give a from date and a to date that is not before it");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_CALENDAR_DAYS) {
+            throw new UserServiceLogicException("The calendar can span at most " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        try {
+            if (userRepository.existsById(userId)) {
+                List<Object[]> plans = savedTransactionRepository.findCalendarPlansByUser(userId, from, to);
+
+                // Only the plans are held; their occurrences are expanded while the response is written.
+                StreamingResponseBody body = out -> {
+                    TransactionRowWriter writer = TransactionRowWriter.ndjson(out, "planId");
+                    OccurrenceCalendar<Object[]> calendar = new OccurrenceCalendar<>(plans,
+                            row -> RecurrenceRule.of((SavedTransaction) row[0]),
+                            row -> ((SavedTransaction) row[0]).getUpcomingDate(), from, to);
+                    while (calendar.hasNext()) {
+                        OccurrenceCalendar.Occurrence<Object[]> occurrence = calendar.next();
+                        SavedTransaction plan = (SavedTransaction) occurrence.plan()[0];
+                        writer.writeRow(plan.getPlanId(), occurrence.date(), (String) occurrence.plan()[1],
+                                Objects.toString(occurrence.plan()[2], null), plan.getDescription(), plan.getAmount());
+                    }
+                    writer.flush();
+                };
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+                return new ResponseEntity<>(body, headers, HttpStatus.OK);
+            }
+        } catch (Exception e) {
+            log.error("Failed to load the saved transaction calendar of user {}: {}", userId, e.getMessage(), e);
+            throw new UserServiceLogicException("Failed to fetch transactions. Try again later");
+        }
+        throw new UserNotFoundException("User not found with id: " + userId);
+    }
+
     private SavedTransaction savedTransactionDtoToEntity(SavedTransactionRequestDto requestDto) throws CategoryNotFoundException {
         return SavedTransaction.builder()
                 .transactionTypeId(categoryService.getCategoryById(requestDto.getCategoryId()).getTransactionType().getTransactionTypeId())
@@ -268,39 +534,85 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                 .description(requestDto.getDescription())
                 .upcomingDate(requestDto.getUpcomingDate())
                 .frequency(requestDto.getFrequency())
+                .recurrenceInterval(recurrenceInterval(requestDto))
+                .dayOfMonth(dayOfMonth(requestDto))
                 .build();
     }
 
-    private Transaction savedTransactionToTransaction(SavedTransaction savedTransaction)
+    private Transaction savedTransactionToTransaction(SavedTransaction savedTransaction, LocalDate date)
             throws CategoryNotFoundException {
         return new Transaction(
                 userRepository.findById(savedTransaction.getUserId()).orElse(null),
                 categoryService.getCategoryById(savedTransaction.getCategoryId()),
                 savedTransaction.getDescription(),
                 savedTransaction.getAmount(),
-                savedTransaction.getUpcomingDate()
+                date
+        );
+    }
+
+    // Claims the occurrence due on dueDate with one conditional update instead of a read-modify-write,
+    // so concurrent or retried requests for the same occurrence post it once and hold no row lock
+    // beyond that statement's transaction. The loaded plan is stale afterwards and is not saved.
+    private boolean claimOccurrence(SavedTransaction plannedTransaction, LocalDate dueDate) {
+        if (dueDate == null) {
+            return false;
+        }
+        LocalDate next = RecurrenceRule.of(plannedTransaction).next(dueDate);
+        return savedTransactionRepository.claimOccurrence(plannedTransaction.getPlanId(), dueDate, next) == 1;
+    }
+
+    private ResponseEntity<ApiResponseDto<?>> occurrenceConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ApiResponseDto<>(
+                        ApiResponseStatus.FAILED,
+                        HttpStatus.CONFLICT,
+                        "This occurrence has already been added or skipped!"
+                )
         );
     }
 
-    private LocalDate getUpcomingDate(ETransactionFrequency frequency, LocalDate currentDate) {
-        if (frequency == ETransactionFrequency.DAILY) {
-            return currentDate.plusDays(1);
+    private LocalDate getUpcomingDate(SavedTransaction plannedTransaction) {
+        return RecurrenceRule.of(plannedTransaction).next(plannedTransaction.getUpcomingDate());
+    }
+
+    private void validateRecurrence(SavedTransactionRequestDto requestDto) throws UserServiceLogicException {
+        try {
+            new RecurrenceRule(requestDto.getFrequency(), recurrenceInterval(requestDto), requestDto.getDayOfMonth());
+        } catch (IllegalArgumentException e) {
+            throw new UserServiceLogicException(e.getMessage());
         }
-        if (frequency == ETransactionFrequency.MONTHLY) {
-            return currentDate.plusMonths(1);
+    }
+
+    private int recurrenceInterval(SavedTransactionRequestDto requestDto) {
+        return requestDto.getRecurrenceInterval() != null ? requestDto.getRecurrenceInterval() : 1;
+    }
+
+    private Integer dayOfMonth(SavedTransactionRequestDto requestDto) {
+        if (requestDto.getDayOfMonth() != null || requestDto.getUpcomingDate() == null) {
+            return requestDto.getDayOfMonth();
         }
-        return null;
+        boolean monthly = requestDto.getFrequency() == ETransactionFrequency.MONTHLY
+                || requestDto.getFrequency() == ETransactionFrequency.YEARLY;
+        return monthly ? requestDto.getUpcomingDate().getDayOfMonth() : null;
     }
 
     private SavedTransactionResponseDto savedTransactionToDto(SavedTransaction savedTransaction)
             throws CategoryNotFoundException {
+        return savedTransactionToDto(savedTransaction,
+                categoryService.getCategoryById(savedTransaction.getCategoryId()).getCategoryName());
+    }
+
+    private SavedTransactionResponseDto savedTransactionToDto(SavedTransaction savedTransaction, String categoryName) {
         return new SavedTransactionResponseDto(
                 savedTransaction.getPlanId(),
                 savedTransaction.getTransactionTypeId(),
-                categoryService.getCategoryById(savedTransaction.getCategoryId()).getCategoryName(),
+                categoryName,
                 savedTransaction.getAmount(),
                 savedTransaction.getDescription(),
                 savedTransaction.getFrequency(),
+                savedTransaction.getRecurrenceInterval(),
+                savedTransaction.getDayOfMonth(),
+                savedTransaction.getUpcomingDate(),
                 getDueInformation(savedTransaction)
         );
     }
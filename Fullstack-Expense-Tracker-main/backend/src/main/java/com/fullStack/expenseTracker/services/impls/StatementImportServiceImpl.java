@@ -0,0 +1,354 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.imports.CsvStatementParser;
+import com.fullStack.expenseTracker.imports.OfxStatementParser;
+import com.fullStack.expenseTracker.imports.StatementCategorizer;
+import com.fullStack.expenseTracker.imports.StatementImport;
+import com.fullStack.expenseTracker.imports.StatementParser;
+import com.fullStack.expenseTracker.imports.StatementRow;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.services.StatementImportService;
+import com.fullStack.expenseTracker.services.TransactionService;
+import com.fullStack.expenseTracker.services.UserService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Statement imports run as a parse -> categorize -> persist pipeline. Each stage is a virtual
+// thread and the stages are joined by bounded queues, so a slow database write stalls the
+// parser instead of letting parsed rows pile up in memory. The upload is spooled to a temp
+// file and read back as a stream; the request thread only returns the import id.
+@Component
+@Slf4j
+public class StatementImportServiceImpl implements StatementImportService {
+
+    private static final int PARSED_QUEUE_CAPACITY = 1024;
+
+    private static final int CHUNK_QUEUE_CAPACITY = 4;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_DESCRIPTION_LENGTH = 50;
+
+    private static final StatementRow END_OF_ROWS = StatementRow.failed(-1, "end");
+
+    private static final ImportChunk END_OF_CHUNKS = new ImportChunk(List.of(), 0, 0);
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Value("${app.import.max-concurrent:4}")
+    private int maxConcurrentImports;
+
+    @Value("${app.import.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, StatementImport> imports = new ConcurrentHashMap<>();
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrentImports));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> startImport(String email, MultipartFile file, String format, String dateFormat,
+                                                         Integer expenseCategoryId, Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException {
+        User user = userService.findByEmail(email);
+        if (file == null || file.isEmpty()) {
+            throw new TransactionServiceLogicException("Statement file is required!");
+        }
+        StatementParser parser = parserFor(format, file.getOriginalFilename(), dateFormat);
+        Category expenseFallback = fallbackCategory(expenseCategoryId);
+        Category incomeFallback = fallbackCategory(incomeCategoryId);
+
+        evictFinishedImports();
+        if (!permits.tryAcquire()) {
+            throw new TransactionServiceLogicException("Too many statement imports are running: Try again later!");
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("statement-import-", ".tmp");
+            file.transferTo(spool);
+        } catch (IOException e) {
+            permits.release();
+            log.error("Failed to spool statement upload: {}", e.getMessage());
+            throw new TransactionServiceLogicException("Failed to read the statement file: Try again later!");
+        }
+
+        StatementImport statementImport = new StatementImport(UUID.randomUUID().toString(), email,
+                file.getOriginalFilename(), file.getSize());
+        imports.put(statementImport.getId(), statementImport);
+
+        Thread.ofVirtual().name("statement-import-" + statementImport.getId()).start(() -> {
+            try {
+                runPipeline(statementImport, spool, parser, user, expenseFallback, incomeFallback);
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("Failed to delete statement spool file {}: {}", spool, e.getMessage());
+                }
+                permits.release();
+            }
+        });
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.ACCEPTED, statementImport.toResponseDto())
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getImportStatus(String email, String importId) throws TransactionServiceLogicException {
+        StatementImport statementImport = importId == null ? null : imports.get(importId);
+        if (statementImport == null || !statementImport.getEmail().equals(email)) {
+            throw new TransactionServiceLogicException("Statement import not found with id " + importId);
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS, HttpStatus.OK, statementImport.toResponseDto())
+        );
+    }
+
+    private void runPipeline(StatementImport statementImport, Path spool, StatementParser parser, User user,
+                             Category expenseFallback, Category incomeFallback) {
+        BlockingQueue<StatementRow> parsedRows = new ArrayBlockingQueue<>(PARSED_QUEUE_CAPACITY);
+        BlockingQueue<ImportChunk> chunks = new ArrayBlockingQueue<>(CHUNK_QUEUE_CAPACITY);
+        StatementCategorizer categorizer = new StatementCategorizer(categoryRepository.findByEnabledTrue());
+
+        List<Thread> stages = new ArrayList<>();
+        String prefix = "statement-import-" + statementImport.getId() + "-";
+        stages.add(Thread.ofVirtual().name(prefix + "parse").unstarted(() -> runStage(statementImport, stages, () ->
+                parse(statementImport, spool, parser, parsedRows))));
+        stages.add(Thread.ofVirtual().name(prefix + "categorize").unstarted(() -> runStage(statementImport, stages, () ->
+                categorize(statementImport, user, categorizer, expenseFallback, incomeFallback, parsedRows, chunks))));
+        stages.add(Thread.ofVirtual().name(prefix + "persist").unstarted(() -> runStage(statementImport, stages, () ->
+                persist(statementImport, chunks))));
+        stages.forEach(Thread::start);
+
+        try {
+            for (Thread stage : stages) {
+                stage.join();
+            }
+        } catch (InterruptedException e) {
+            stages.forEach(Thread::interrupt);
+            statementImport.fail("Import was interrupted");
+            Thread.currentThread().interrupt();
+        }
+        statementImport.finish();
+        log.info("Statement import {} finished with status {}: {} imported, {} failed", statementImport.getId(),
+                statementImport.getStatus(), statementImport.getImported().get(), statementImport.getFailed().get());
+    }
+
+    // A failing stage fails the import and interrupts its neighbours, which may be blocked on a queue.
+    private void runStage(StatementImport statementImport, List<Thread> stages, PipelineStage stage) {
+        try {
+            stage.run();
+        } catch (InterruptedException e) {
+            statementImport.fail("Import was interrupted");
+        } catch (Exception e) {
+            log.error("Statement import {} failed: {}", statementImport.getId(), e.getMessage(), e);
+            statementImport.fail("Failed to import the statement: " + e.getMessage());
+            stages.stream().filter(t -> t != Thread.currentThread()).forEach(Thread::interrupt);
+        }
+    }
+
+    private void parse(StatementImport statementImport, Path spool, StatementParser parser,
+                       BlockingQueue<StatementRow> parsedRows) throws IOException, InterruptedException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new CountingInputStream(Files.newInputStream(spool), statementImport.getBytesRead()),
+                StandardCharsets.UTF_8))) {
+            parser.parse(reader, row -> {
+                statementImport.getRowsRead().incrementAndGet();
+                parsedRows.put(row);
+            });
+        }
+        parsedRows.put(END_OF_ROWS);
+    }
+
+    private void categorize(StatementImport statementImport, User user, StatementCategorizer categorizer,
+                            Category expenseFallback, Category incomeFallback,
+                            BlockingQueue<StatementRow> parsedRows, BlockingQueue<ImportChunk> chunks) throws InterruptedException {
+        List<Transaction> transactions = new ArrayList<>(CHUNK_SIZE);
+        long firstLine = 0;
+        long lastLine = 0;
+        while (true) {
+            StatementRow row = parsedRows.take();
+            if (row == END_OF_ROWS) {
+                break;
+            }
+            if (row.isFailed()) {
+                statementImport.rowFailed(row.getLineNumber(), row.getError());
+                continue;
+            }
+            if (row.getDescription() == null || row.getDescription().isBlank()) {
+                statementImport.rowFailed(row.getLineNumber(), "Description is required!");
+                continue;
+            }
+            Category category = categorizer.categorize(row);
+            if (category == null) {
+                category = row.getAmount() > 0 ? incomeFallback : expenseFallback;
+            }
+            if (category == null) {
+                statementImport.rowFailed(row.getLineNumber(), "No category matches this transaction");
+                continue;
+            }
+
+            // Bank narratives are often longer than the description column; keep the start of it.
+            String description = row.getDescription().trim();
+            if (description.length() > MAX_DESCRIPTION_LENGTH) {
+                description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+            }
+            if (transactions.isEmpty()) {
+                firstLine = row.getLineNumber();
+            }
+            lastLine = row.getLineNumber();
+            transactions.add(new Transaction(user, category, description, Math.abs(row.getAmount()), row.getDate()));
+            if (transactions.size() == CHUNK_SIZE) {
+                chunks.put(new ImportChunk(transactions, firstLine, lastLine));
+                transactions = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!transactions.isEmpty()) {
+            chunks.put(new ImportChunk(transactions, firstLine, lastLine));
+        }
+        chunks.put(END_OF_CHUNKS);
+    }
+
+    private void persist(StatementImport statementImport, BlockingQueue<ImportChunk> chunks) throws InterruptedException {
+        while (true) {
+            ImportChunk chunk = chunks.take();
+            if (chunk == END_OF_CHUNKS) {
+                return;
+            }
+            try {
+                transactionService.recordTransactions(chunk.transactions);
+                statementImport.getImported().addAndGet(chunk.transactions.size());
+            } catch (RuntimeException e) {
+                log.error("Failed to save statement import rows {}-{}: {}", chunk.firstLine, chunk.lastLine, e.getMessage());
+                statementImport.rowsFailed(chunk.firstLine, chunk.transactions.size(),
+                        "Rows " + chunk.firstLine + "-" + chunk.lastLine + " could not be saved: Try again later!");
+            }
+        }
+    }
+
+    private StatementParser parserFor(String format, String fileName, String dateFormat) throws TransactionServiceLogicException {
+        String resolved = format;
+        if (resolved == null || resolved.isBlank()) {
+            String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+            resolved = name.endsWith(".ofx") || name.endsWith(".qfx") ? "ofx" : "csv";
+        }
+        switch (resolved.toLowerCase(Locale.ROOT)) {
+            case "ofx", "qfx":
+                return new OfxStatementParser();
+            case "csv":
+                try {
+                    return new CsvStatementParser(dateFormat == null || dateFormat.isBlank()
+                            ? DateTimeFormatter.ISO_LOCAL_DATE
+                            : DateTimeFormatter.ofPattern(dateFormat));
+                } catch (IllegalArgumentException e) {
+                    throw new TransactionServiceLogicException("Invalid date format '" + dateFormat + "'");
+                }
+            default:
+                throw new TransactionServiceLogicException("Unsupported statement format '" + format + "'");
+        }
+    }
+
+    private Category fallbackCategory(Integer categoryId) throws TransactionServiceLogicException {
+        if (categoryId == null) {
+            return null;
+        }
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new TransactionServiceLogicException("Category not found with id " + categoryId));
+    }
+
+    private void evictFinishedImports() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        imports.values().removeIf(i -> i.getFinishedAt() != null && i.getFinishedAt().isBefore(cutoff));
+    }
+
+    @FunctionalInterface
+    private interface PipelineStage {
+        void run() throws Exception;
+    }
+
+    private static class ImportChunk {
+        private final List<Transaction> transactions;
+        private final long firstLine;
+        private final long lastLine;
+
+        ImportChunk(List<Transaction> transactions, long firstLine, long lastLine) {
+            this.transactions = transactions;
+            this.firstLine = firstLine;
+            this.lastLine = lastLine;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
@@ -2,51 +2,75 @@ package com.fullStack.expenseTracker.services.impls;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchResultDto;
+import com.fullStack.expenseTracker.dto.reponses.CursorPageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
-import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
-import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.Category;
 import com.fullStack.expenseTracker.models.Transaction;
 import com.fullStack.expenseTracker.models.User;
-import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.recurring.SavedTransactionMirror;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionBatchRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.search.TransactionSearchIndex;
 import com.fullStack.expenseTracker.services.CategoryService;
 import com.fullStack.expenseTracker.services.TransactionService;
 import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.utils.TransactionCursor;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
     @Autowired
     TransactionRepository transactionRepository;
 
     @Autowired
-    SavedTransactionRepository savedTransactionRepository;
+    SavedTransactionMirror savedTransactionMirror;
 
     @Autowired
     UserService userService;
@@ -54,7 +78,29 @@ public class TransactionServiceImpl implements TransactionService {
     @Autowired
     CategoryService categoryService;
 
+    @Autowired
+    TransactionSearchIndex transactionSearchIndex;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    Validator validator;
+
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> addTransaction(TransactionRequestDto transactionRequestDto)
             throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
         Transaction transaction = Objects.requireNonNull(
@@ -64,29 +110,10 @@ public class TransactionServiceImpl implements TransactionService {
         try {
             // Save main transaction
             transactionRepository.save(transaction);
+            eventPublisher.publishEvent(TransactionChangedEvent.created(TransactionSnapshot.of(transaction)));
 
-            // Automatically create a corresponding saved transaction entry
-            User user = userService.findByEmail(transactionRequestDto.getUserEmail());
-            int categoryId = transactionRequestDto.getCategoryId();
-
-            SavedTransaction savedTransaction = SavedTransaction.builder()
-                    .userId(user.getId())
-                    .transactionTypeId(
-                            categoryService.getCategoryById(categoryId)
-                                    .getTransactionType()
-                                    .getTransactionTypeId()
-                    )
-                    .categoryId(categoryId)
-                    .amount(transactionRequestDto.getAmount())
-                    .description(transactionRequestDto.getDescription())
-                    // Treat automatically created entries as one-time with the same date
-                    .frequency(ETransactionFrequency.ONE_TIME)
-                    .upcomingDate(transactionRequestDto.getDate())
-                    .build();
-
-            savedTransactionRepository.save(
-                    Objects.requireNonNull(savedTransaction, "SavedTransaction must not be null")
-            );
+            // Mirror it as a one-time saved transaction, as configured by app.saved.mirror.mode
+            savedTransactionMirror.mirror(List.of(transaction));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -96,9 +123,6 @@ public class TransactionServiceImpl implements TransactionService {
                     )
             );
 
-        } catch (UserNotFoundException | CategoryNotFoundException e) {
-            // Let declared checked exceptions propagate as-is
-            throw e;
         } catch (RuntimeException e) {
             log.error("Error happen when adding new transaction: " + e.getMessage(), e);
             log.error("TransactionRequestDto: userEmail={}, categoryId={}, description={}, amount={}, date={}", 
@@ -112,6 +136,88 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> addTransactions(List<TransactionRequestDto> transactionRequestDtos)
+            throws TransactionServiceLogicException {
+        if (transactionRequestDtos == null || transactionRequestDtos.isEmpty()) {
+            throw new TransactionServiceLogicException("No transactions to record!");
+        }
+        if (transactionRequestDtos.size() > MAX_BATCH_SIZE) {
+            throw new TransactionServiceLogicException("A batch can have atmost " + MAX_BATCH_SIZE + " transactions!");
+        }
+
+        // Resolve every distinct user and category once for the whole batch.
+        Map<String, User> users = userRepository.findByEmailIn(transactionRequestDtos.stream()
+                        .filter(Objects::nonNull)
+                        .map(TransactionRequestDto::getUserEmail)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getEmail, u -> u));
+        Map<Integer, Category> categories = categoryRepository.findAllById(transactionRequestDtos.stream()
+                        .filter(Objects::nonNull)
+                        .map(TransactionRequestDto::getCategoryId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, c -> c));
+
+        BatchItemResultDto[] results = new BatchItemResultDto[transactionRequestDtos.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<Transaction> pending = new ArrayList<>();
+
+        for (int i = 0; i < transactionRequestDtos.size(); i++) {
+            TransactionRequestDto dto = transactionRequestDtos.get(i);
+            String error = validateBatchItem(dto, users, categories);
+            if (error != null) {
+                results[i] = new BatchItemResultDto(i, ApiResponseStatus.FAILED, null, error);
+                continue;
+            }
+            pendingIndexes.add(i);
+            pending.add(new Transaction(users.get(dto.getUserEmail()), categories.get(dto.getCategoryId()),
+                    dto.getDescription(), dto.getAmount(), dto.getDate()));
+        }
+
+        for (int from = 0; from < pending.size(); from += BATCH_CHUNK_SIZE) {
+            int to = Math.min(from + BATCH_CHUNK_SIZE, pending.size());
+            List<Transaction> chunk = pending.subList(from, to);
+            try {
+                // Each chunk commits on its own, so a rejected chunk does not undo the ones before it.
+                recordTransactions(chunk);
+                for (int i = from; i < to; i++) {
+                    results[pendingIndexes.get(i)] = new BatchItemResultDto(pendingIndexes.get(i), ApiResponseStatus.SUCCESS,
+                            pending.get(i).getTransactionId(), "Transaction has been successfully recorded!");
+                }
+            } catch (RuntimeException e) {
+                log.error("Error happen when recording a transaction batch chunk: " + e.getMessage(), e);
+                for (int i = from; i < to; i++) {
+                    results[pendingIndexes.get(i)] = new BatchItemResultDto(pendingIndexes.get(i), ApiResponseStatus.FAILED,
+                            null, "Failed to record this transaction: Try again later!");
+                }
+            }
+        }
+
+        List<BatchItemResultDto> resultList = Arrays.asList(results);
+        int succeeded = (int) resultList.stream().filter(r -> r.getStatus() == ApiResponseStatus.SUCCESS).count();
+        int failed = resultList.size() - succeeded;
+
+        HttpStatus httpStatus = failed == 0 ? HttpStatus.CREATED
+                : succeeded == 0 ? HttpStatus.BAD_REQUEST : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(httpStatus).body(
+                new ApiResponseDto<>(
+                        succeeded == 0 ? ApiResponseStatus.FAILED : ApiResponseStatus.SUCCESS,
+                        httpStatus,
+                        new BatchResultDto(resultList.size(), succeeded, failed, resultList)
+                )
+        );
+    }
+
+    @Override
+    public void recordTransactions(List<Transaction> transactions) {
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionBatchRepository.insertAll(transactions);
+            savedTransactionMirror.mirror(transactions);
+            transactions.forEach(t -> eventPublisher.publishEvent(TransactionChangedEvent.created(TransactionSnapshot.of(t))));
+        });
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(String email,
                                                                    int pageNumber, int pageSize,
@@ -124,10 +230,19 @@ public class TransactionServiceImpl implements TransactionService {
             direction = Sort.Direction.DESC;
         }
 
-        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(direction, sortField);
+        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(direction, sortProperty(sortField));
 
-        Page<Transaction> transactions = transactionRepository.findByUser(email,
-                pageable, searchKey, transactionType);
+        Page<TransactionResponseDto> transactions = null;
+        if (searchKey != null && !searchKey.isEmpty() && transactionSearchIndex.isReady()) {
+            TransactionSearchIndex.SearchResult hits = transactionSearchIndex.searchUser(email, searchKey,
+                    transactionType, sortField, direction == Sort.Direction.DESC, pageNumber, pageSize);
+            if (hits != null) {
+                transactions = fetchSearchHits(hits, pageable);
+            }
+        }
+        if (transactions == null) {
+            transactions = transactionRepository.findByUser(email, pageable, searchKey, transactionType);
+        }
 
         try {
             if (transactions.getTotalElements() == 0) {
@@ -144,18 +259,12 @@ public class TransactionServiceImpl implements TransactionService {
                 );
             }
 
-            List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
-
-            for (Transaction transaction: transactions) {
-                transactionResponseDtoList.add(transactionToTransactionResponseDto(transaction));
-            }
-
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
                             HttpStatus.OK,
                             new PageResponseDto<>(
-                                    groupTransactionsByDate(transactionResponseDtoList),
+                                    groupTransactionsByDate(transactions.getContent()),
                                     transactions.getTotalPages(),
                                     transactions.getTotalElements()
                             )
@@ -168,11 +277,75 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTransactionsByUserCursor(String email, String cursor, int pageSize,
+                                                                         String searchKey, String sortField,
+                                                                         String sortDirec, String transactionType)
+            throws TransactionServiceLogicException {
+
+        String field = sortField == null || sortField.isBlank() ? "date" : sortField;
+        if (!TransactionCursor.SORT_FIELDS.contains(field)) {
+            throw new TransactionServiceLogicException("Unsupported sort field: " + sortField);
+        }
+        if (pageSize < 1 || pageSize > MAX_CURSOR_PAGE_SIZE) {
+            throw new TransactionServiceLogicException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        boolean descending = sortDirec == null || !sortDirec.equalsIgnoreCase("ASC");
+
+        TransactionCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                position = TransactionCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new TransactionServiceLogicException("Invalid cursor! Restart from the first page");
+            }
+            if (!position.getSortField().equals(field) || position.isDescending() != descending) {
+                throw new TransactionServiceLogicException("Cursor does not match the requested sort order!");
+            }
+        }
+
+        LocalDate cursorDate = position == null ? null : position.getDate();
+        Long cursorId = position == null ? null : position.getTransactionId();
+        String key = searchKey == null ? "" : searchKey;
+        String type = transactionType == null ? "" : transactionType;
+
+        try {
+            // Ask for one extra row so we know whether another page exists without counting.
+            List<TransactionResponseDto> transactions = descending
+                    ? transactionRepository.findByUserAfterCursorDesc(email, key, type, cursorDate, cursorId, Limit.of(pageSize + 1))
+                    : transactionRepository.findByUserAfterCursorAsc(email, key, type, cursorDate, cursorId, Limit.of(pageSize + 1));
+
+            boolean hasNext = transactions.size() > pageSize;
+            List<TransactionResponseDto> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+
+            String nextCursor = null;
+            if (hasNext) {
+                TransactionResponseDto last = page.get(page.size() - 1);
+                nextCursor = new TransactionCursor(field, descending, last.getDate(), last.getTransactionId()).encode();
+            }
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new CursorPageResponseDto<>(
+                                    groupTransactionsByDate(page),
+                                    nextCursor,
+                                    hasNext
+                            )
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Error happen when retrieving transactions of a user by cursor: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch your transactions! Try again later");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTransactionById(Long transactionId)
             throws TransactionNotFoundException {
         Long id = Objects.requireNonNull(transactionId, "transactionId must not be null");
-        Transaction transaction = transactionRepository.findById(id).orElseThrow(
+        TransactionResponseDto transaction = transactionRepository.findResponseById(id).orElseThrow(
                 () -> new TransactionNotFoundException("Transaction not found with id : " + id)
         );
 
@@ -180,12 +353,13 @@ public class TransactionServiceImpl implements TransactionService {
                 new ApiResponseDto<>(
                         ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionToTransactionResponseDto(transaction)
+                        transaction
                 )
         );
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateTransaction(Long transactionId, TransactionRequestDto transactionRequestDto)
             throws TransactionNotFoundException, UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
 
@@ -194,6 +368,7 @@ public class TransactionServiceImpl implements TransactionService {
                 () -> new TransactionNotFoundException("Transaction not found with id : " + id)
         );
 
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
         transaction.setAmount(transactionRequestDto.getAmount());
         transaction.setDate(transactionRequestDto.getDate());
         transaction.setUser(userService.findByEmail(transactionRequestDto.getUserEmail()));
@@ -202,6 +377,7 @@ public class TransactionServiceImpl implements TransactionService {
 
         try {
             transactionRepository.save(transaction);
+            eventPublisher.publishEvent(TransactionChangedEvent.updated(before, TransactionSnapshot.of(transaction)));
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
@@ -217,11 +393,16 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> deleteTransaction(Long transactionId) throws TransactionNotFoundException, TransactionServiceLogicException {
 
         Long id = Objects.requireNonNull(transactionId, "transactionId must not be null");
-        if (transactionRepository.existsById(id)) {
-            try {transactionRepository.deleteById(id);
+        Transaction transaction = transactionRepository.findById(id).orElse(null);
+        if (transaction != null) {
+            try {
+                TransactionSnapshot before = TransactionSnapshot.of(transaction);
+                transactionRepository.deleteById(id);
+                eventPublisher.publishEvent(TransactionChangedEvent.deleted(before));
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
                                 ApiResponseStatus.SUCCESS,
@@ -241,9 +422,15 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getAllTransactions(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException {
-        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transaction_id");
+        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transactionId");
 
-        Page<Transaction> transactions = transactionRepository.findAll(pageable, searchKey);
+        Page<TransactionResponseDto> transactions = null;
+        if (searchKey != null && !searchKey.isEmpty() && transactionSearchIndex.isReady()) {
+            transactions = fetchSearchHits(transactionSearchIndex.searchAll(searchKey, pageNumber, pageSize), pageable);
+        }
+        if (transactions == null) {
+            transactions = transactionRepository.findAll(pageable, searchKey);
+        }
 
         try {
             if (transactions.getTotalElements() == 0) {
@@ -259,18 +446,12 @@ public class TransactionServiceImpl implements TransactionService {
                         )
                 );
             }
-            List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
-
-            for (Transaction transaction: transactions) {
-                transactionResponseDtoList.add(transactionToTransactionResponseDto(transaction));
-            }
-
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
                             HttpStatus.OK,
                             new PageResponseDto<>(
-                                    transactionResponseDtoList,
+                                    transactions.getContent(),
                                     transactions.getTotalPages(),
                                     transactions.getTotalElements()
                             )
@@ -282,6 +463,34 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    private Page<TransactionResponseDto> fetchSearchHits(TransactionSearchIndex.SearchResult hits, Pageable pageable) {
+        // The index already decided the page; load just those rows by primary key and keep its order.
+        Map<Long, TransactionResponseDto> byId = transactionRepository.findResponsesByIds(hits.getIds()).stream()
+                .collect(Collectors.toMap(TransactionResponseDto::getTransactionId, t -> t));
+        List<TransactionResponseDto> page = hits.getIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(page, pageable, hits.getTotal());
+    }
+
+    private String validateBatchItem(TransactionRequestDto dto, Map<String, User> users, Map<Integer, Category> categories) {
+        if (dto == null) {
+            return "Transaction is required!";
+        }
+        Set<ConstraintViolation<TransactionRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+        }
+        if (!users.containsKey(dto.getUserEmail())) {
+            return "User not found with email " + dto.getUserEmail();
+        }
+        if (!categories.containsKey(dto.getCategoryId())) {
+            return "Category not found with id " + dto.getCategoryId();
+        }
+        return null;
+    }
+
     private Transaction TransactionRequestDtoToTransaction(TransactionRequestDto transactionRequestDto) throws UserNotFoundException, CategoryNotFoundException {
         return new Transaction(
                 userService.findByEmail(transactionRequestDto.getUserEmail()),
@@ -292,17 +501,15 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
-    private TransactionResponseDto transactionToTransactionResponseDto(Transaction transaction) {
-        return new TransactionResponseDto(
-                transaction.getTransactionId(),
-                transaction.getCategory().getCategoryId(),
-                transaction.getCategory().getCategoryName(),
-                transaction.getCategory().getTransactionType().getTransactionTypeId(),
-                transaction.getDescription(),
-                transaction.getAmount(),
-                transaction.getDate(),
-                transaction.getUser().getEmail()
-        );
+    // Listing queries are JPQL, so the column names the client sorts by map to entity properties.
+    private static String sortProperty(String sortField) throws TransactionServiceLogicException {
+        if (sortField == null || sortField.isBlank() || sortField.equals("transaction_id")) {
+            return "transactionId";
+        }
+        return switch (sortField) {
+            case "date", "amount", "description", "transactionId" -> sortField;
+            default -> throw new TransactionServiceLogicException("Unsupported sort field: " + sortField);
+        };
     }
 
     private Map<String, List<TransactionResponseDto>> groupTransactionsByDate(List<TransactionResponseDto> transactionResponseDtoList) {
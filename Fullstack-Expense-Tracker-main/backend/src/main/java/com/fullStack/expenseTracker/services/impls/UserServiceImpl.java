@@ -10,7 +10,9 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,14 +29,13 @@ import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.UserResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
-import com.fullStack.expenseTracker.enums.ETransactionType;
 import com.fullStack.expenseTracker.exceptions.RoleNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.models.User;
-import com.fullStack.expenseTracker.repository.TransactionRepository;
-import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.PlatformStatsService;
 import com.fullStack.expenseTracker.services.UserService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -47,10 +48,10 @@ public class UserServiceImpl implements UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private TransactionRepository transactionRepository;
+    private TransactionRollupRepository transactionRollupRepository;
 
     @Autowired
-    private TransactionTypeRepository transactionTypeRepository;
+    private PlatformStatsService platformStatsService;
 
     @Value("${app.user.profile.upload.dir}")
     private String userProfileUploadDir;
@@ -72,10 +73,21 @@ public class UserServiceImpl implements UserService {
             
             log.info("Found {} users out of {} total", users.getNumberOfElements(), users.getTotalElements());
 
+            // This month's totals of the whole page in one grouped read, matched back by user id.
+            LocalDate today = LocalDate.now();
+            Map<Long, Object[]> totalsByUserId = new HashMap<>();
+            if (!users.isEmpty()) {
+                List<Long> userIds = users.stream().map(User::getId).toList();
+                for (Object[] row : transactionRollupRepository.findMonthTotalsByUserIds(
+                        userIds, today.getMonthValue(), today.getYear())) {
+                    totalsByUserId.put((Long) row[0], row);
+                }
+            }
+
             List<UserResponseDto> userResponseDtoList = new ArrayList<>();
 
             for (User u: users) {
-                userResponseDtoList.add(userToUserResponseDto(u));
+                userResponseDtoList.add(userToUserResponseDto(u, totalsByUserId.get(u.getId())));
             }
 
             return ResponseEntity.status(HttpStatus.OK).body(
@@ -102,6 +114,7 @@ public class UserServiceImpl implements UserService {
 
             user.setEnabled(!user.isEnabled());
             userRepository.save(user);
+            platformStatsService.userEnabledChanged(user.isEnabled());
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -220,26 +233,15 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with email " +  email));
     }
 
-    private UserResponseDto userToUserResponseDto(User user) {
+    private UserResponseDto userToUserResponseDto(User user, Object[] totals) {
         return new UserResponseDto(
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.isEnabled(),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_EXPENSE).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_INCOME).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalNoOfTransactionsByUser(user.getId(), LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear())
+                totals != null ? (Double) totals[1] : 0.0,
+                totals != null ? (Double) totals[2] : 0.0,
+                totals != null ? ((Long) totals[3]).intValue() : 0
         );
     }
 
@@ -0,0 +1,52 @@
+package com.fullStack.expenseTracker.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+// Opaque keyset position for transaction listings: the (date, transactionId) of the last row
+// handed out, bound to the sort it was produced for so it cannot be replayed against another order.
+@Data
+@AllArgsConstructor
+public class TransactionCursor {
+
+    public static final Set<String> SORT_FIELDS = Set.of("date");
+
+    private static final String VERSION = "v1";
+
+    private String sortField;
+
+    private boolean descending;
+
+    private LocalDate date;
+
+    private long transactionId;
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortField, descending ? "desc" : "asc",
+                date.toString(), String.valueOf(transactionId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !SORT_FIELDS.contains(parts[1])) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            if (!parts[2].equals("asc") && !parts[2].equals("desc")) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TransactionCursor(parts[1], parts[2].equals("desc"),
+                    LocalDate.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
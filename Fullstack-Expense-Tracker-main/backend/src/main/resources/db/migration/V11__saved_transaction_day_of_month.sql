@@ -0,0 +1,4 @@
+-- Pin monthly and yearly plans to the day of their upcoming date, which otherwise moves to the
+-- 28th after a short month. Plans that already moved keep the day they have now.
+UPDATE saved_transaction SET day_of_month = DAY(upcoming_date)
+WHERE day_of_month IS NULL AND frequency IN ('MONTHLY', 'YEARLY') AND upcoming_date IS NOT NULL;
@@ -0,0 +1,12 @@
+-- Marks the ONE_TIME saved transactions written as mirrors of recorded transactions, so the
+-- compaction job removes only those and never a one time plan a user created. Existing rows are
+-- marked when a transaction of the same user matches them field for field.
+ALTER TABLE saved_transaction ADD COLUMN mirror BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE saved_transaction s SET mirror = TRUE
+WHERE s.frequency = 'ONE_TIME' AND EXISTS (
+    SELECT 1 FROM transaction t
+    WHERE t.user_id = s.user_id AND t.category_id = s.category_id AND t.date = s.upcoming_date
+        AND t.amount = s.amount
+        AND (t.description = s.description OR (t.description IS NULL AND s.description IS NULL))
+);
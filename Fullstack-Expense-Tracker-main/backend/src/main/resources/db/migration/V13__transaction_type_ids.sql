@@ -0,0 +1,11 @@
+-- Pins the transaction type ids. Report queries, the analytics caches and the client tell expense
+-- from income by id (ETransactionType.EXPENSE_ID and INCOME_ID), so the ids must not depend on
+-- which seeder happened to insert the types first. Databases seeded earlier already hold them;
+-- TransactionTypeDataSeeder refuses to start if their ids differ.
+INSERT INTO transaction_type (transaction_type_id, transaction_type_name)
+SELECT 1, 'TYPE_EXPENSE' FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM transaction_type WHERE transaction_type_name = 'TYPE_EXPENSE');
+
+INSERT INTO transaction_type (transaction_type_id, transaction_type_name)
+SELECT 2, 'TYPE_INCOME' FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM transaction_type WHERE transaction_type_name = 'TYPE_INCOME');
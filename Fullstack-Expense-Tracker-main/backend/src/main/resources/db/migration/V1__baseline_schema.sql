@@ -0,0 +1,87 @@
+-- Schema as generated by Hibernate ddl-auto=update before migrations were introduced.
+
+CREATE TABLE transaction_type (
+    transaction_type_id INT NOT NULL AUTO_INCREMENT,
+    transaction_type_name VARCHAR(20),
+    PRIMARY KEY (transaction_type_id)
+);
+
+CREATE TABLE category (
+    category_id INT NOT NULL AUTO_INCREMENT,
+    enabled BIT NOT NULL,
+    transaction_type_id INT,
+    category_name VARCHAR(255),
+    PRIMARY KEY (category_id),
+    CONSTRAINT fk_category_transaction_type FOREIGN KEY (transaction_type_id) REFERENCES transaction_type (transaction_type_id)
+);
+
+CREATE TABLE roles (
+    id INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(20),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    enabled BIT NOT NULL,
+    username VARCHAR(20) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    profile_img_url VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    role_id INT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (role_id, user_id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE transaction (
+    transaction_id BIGINT NOT NULL AUTO_INCREMENT,
+    amount FLOAT(53) NOT NULL,
+    category_id INT,
+    date DATE,
+    user_id BIGINT,
+    description VARCHAR(255),
+    PRIMARY KEY (transaction_id),
+    CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES category (category_id),
+    CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE saved_transaction (
+    plan_id BIGINT NOT NULL,
+    amount FLOAT(53) NOT NULL,
+    category_id INT NOT NULL,
+    transaction_type_id INT NOT NULL,
+    upcoming_date DATE,
+    user_id BIGINT NOT NULL,
+    description VARCHAR(255),
+    frequency VARCHAR(20),
+    PRIMARY KEY (plan_id)
+);
+
+CREATE TABLE saved_transaction_seq (
+    next_val BIGINT
+);
+
+INSERT INTO saved_transaction_seq VALUES (1);
+
+CREATE TABLE budget (
+    budget_id BIGINT NOT NULL,
+    amount FLOAT(53) NOT NULL,
+    budget_month INT,
+    budget_year BIGINT,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (budget_id)
+);
+
+CREATE TABLE budget_seq (
+    next_val BIGINT
+);
+
+INSERT INTO budget_seq VALUES (1);
@@ -0,0 +1,13 @@
+-- Databases that ran on ddl-auto may already have this table.
+CREATE TABLE IF NOT EXISTS transaction_rollup (
+    rollup_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    rollup_year INT,
+    rollup_month INT,
+    transaction_type_id INT NOT NULL,
+    category_id INT NOT NULL,
+    total FLOAT(53) NOT NULL,
+    tx_count BIGINT,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_transaction_rollup UNIQUE (user_id, rollup_year, rollup_month, transaction_type_id, category_id)
+);
@@ -0,0 +1,11 @@
+-- Listings, exports and range reads of one user's history.
+CREATE INDEX idx_transaction_user_date ON transaction (user_id, date);
+
+-- Per category totals of one user over a date range.
+CREATE INDEX idx_transaction_user_category_date ON transaction (user_id, category_id, date);
+
+-- Upcoming saved transactions of one user.
+CREATE INDEX idx_saved_transaction_user_upcoming ON saved_transaction (user_id, upcoming_date);
+
+-- Budget of one user for a month.
+CREATE INDEX idx_budget_user_period ON budget (user_id, budget_year, budget_month);
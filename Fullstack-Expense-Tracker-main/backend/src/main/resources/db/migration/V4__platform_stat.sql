@@ -0,0 +1,15 @@
+-- Platform wide counters behind the admin stats endpoint. Writers add deltas to these rows and
+-- a nightly reconciliation adds their drift from exact values in users and transaction_rollup.
+CREATE TABLE platform_stat (
+    stat_key VARCHAR(64) NOT NULL,
+    stat_value BIGINT NOT NULL,
+    PRIMARY KEY (stat_key)
+);
+
+INSERT INTO platform_stat (stat_key, stat_value) VALUES
+    ('users_total', 0),
+    ('users_enabled', 0),
+    ('transactions_expense', 0),
+    ('transactions_income', 0),
+    ('volume_expense_minor', 0),
+    ('volume_income_minor', 0);
@@ -0,0 +1,14 @@
+-- Due recurring plans: the materializer range-scans (frequency, upcoming_date) per recurring
+-- frequency, so the one time mirrors of ordinary transactions are never visited.
+CREATE INDEX idx_saved_transaction_due ON saved_transaction (frequency, upcoming_date);
+
+-- Cluster wide leases of scheduled jobs, so a job runs on one application instance at a time.
+CREATE TABLE job_lease (
+    job_name VARCHAR(64) NOT NULL,
+    lease_owner VARCHAR(128),
+    lease_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+INSERT INTO job_lease (job_name, lease_owner, lease_until) VALUES
+    ('recurring_materializer', NULL, '1970-01-01 00:00:00');
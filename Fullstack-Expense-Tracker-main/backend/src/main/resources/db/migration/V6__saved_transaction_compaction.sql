@@ -0,0 +1,16 @@
+-- Past ONE_TIME saved transactions moved out of saved_transaction by the compaction job.
+CREATE TABLE saved_transaction_archive (
+    plan_id BIGINT NOT NULL,
+    amount FLOAT(53) NOT NULL,
+    category_id INT NOT NULL,
+    transaction_type_id INT NOT NULL,
+    upcoming_date DATE,
+    user_id BIGINT NOT NULL,
+    description VARCHAR(255),
+    frequency VARCHAR(20),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (plan_id)
+);
+
+INSERT INTO job_lease (job_name, lease_owner, lease_until) VALUES
+    ('saved_transaction_compaction', NULL, '1970-01-01 00:00:00');
@@ -0,0 +1,3 @@
+-- Custom recurrence: every N units of the frequency, optionally pinned to a day of the month.
+ALTER TABLE saved_transaction ADD COLUMN recurrence_interval INT NOT NULL DEFAULT 1;
+ALTER TABLE saved_transaction ADD COLUMN day_of_month INT;
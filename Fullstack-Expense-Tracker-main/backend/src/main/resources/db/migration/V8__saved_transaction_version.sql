@@ -0,0 +1,2 @@
+-- Optimistic locking for saved transactions, bumped by every update including occurrence claims.
+ALTER TABLE saved_transaction ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Monthly budgets of single expense categories, next to the overall monthly budget in budget.
+CREATE TABLE category_budget (
+    budget_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    category_id INT NOT NULL,
+    budget_year INT NOT NULL,
+    budget_month INT NOT NULL,
+    amount FLOAT(53) NOT NULL,
+    PRIMARY KEY (budget_id),
+    CONSTRAINT uk_category_budget UNIQUE (user_id, budget_year, budget_month, category_id)
+);
@@ -0,0 +1,227 @@
+package com.fullStack.expenseTracker.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.BudgetUtilizationResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CategoryUtilizationDto;
+import com.fullStack.expenseTracker.events.BudgetThresholdCrossedEvent;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.CategoryBudget;
+import com.fullStack.expenseTracker.repository.CategoryBudgetRepository;
+import com.fullStack.expenseTracker.repository.TransactionRollupRepository;
+
+class BudgetUtilizationTrackerTest {
+
+    private static final long USER_ID = 7L;
+
+    private static final LocalDate MARCH = LocalDate.of(2024, 3, 10);
+
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 10);
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private final List<CategoryBudget> categoryBudgets = new ArrayList<>();
+
+    private final List<BudgetThresholdCrossedEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    private TransactionRollupRepository transactionRollupRepository;
+
+    private TransactionAnalyticsCache transactionAnalyticsCache;
+
+    private BudgetUtilizationTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        transactionRollupRepository = mock(TransactionRollupRepository.class);
+        when(transactionRollupRepository.findExpenseTotalsByCategory(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> List.copyOf(rows));
+        CategoryBudgetRepository categoryBudgetRepository = mock(CategoryBudgetRepository.class);
+        when(categoryBudgetRepository.findByUserIdAndYearAndMonth(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> List.copyOf(categoryBudgets));
+        transactionAnalyticsCache = mock(TransactionAnalyticsCache.class);
+        when(transactionAnalyticsCache.budget(anyLong(), anyInt(), anyInt())).thenReturn(100.0);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> events.add(invocation.getArgument(0))).when(eventPublisher).publishEvent(any(Object.class));
+
+        tracker = new BudgetUtilizationTracker();
+        ReflectionTestUtils.setField(tracker, "transactionRollupRepository", transactionRollupRepository);
+        ReflectionTestUtils.setField(tracker, "categoryBudgetRepository", categoryBudgetRepository);
+        ReflectionTestUtils.setField(tracker, "transactionAnalyticsCache", transactionAnalyticsCache);
+        ReflectionTestUtils.setField(tracker, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(tracker, "thresholds", new int[]{80, 100});
+    }
+
+    @Test
+    void onTransactionChanged_whenConcurrentAddsCrossThresholds_shouldPublishEachOnce() throws Exception {
+        warm(MARCH);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 8; writer++) {
+            writers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    tracker.onTransactionChanged(TransactionChangedEvent.created(expense(3, 0.5, MARCH)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        pool.shutdown();
+
+        assertEquals(List.of(80, 100), events.stream().map(BudgetThresholdCrossedEvent::getThresholdPercent).sorted().toList());
+        assertEquals(200.0, utilization(MARCH).getSpent(), 1e-9);
+    }
+
+    @Test
+    void utilization_whenMonthIsAlreadyOverBudget_shouldLoadQuietly() {
+        rows.add(new Object[]{3, 150.0});
+        categoryBudgets.add(new CategoryBudget(USER_ID, 3, 2024, 3, 50.0));
+
+        BudgetUtilizationResponseDto utilization = utilization(MARCH);
+        tracker.onTransactionChanged(TransactionChangedEvent.created(expense(3, 1.0, MARCH)));
+        tracker.budgetChanged(USER_ID, 3, 2024);
+
+        assertEquals(150.0, utilization.getSpent(), 1e-9);
+        assertTrue(events.isEmpty(), "events " + events);
+    }
+
+    @Test
+    void onTransactionChanged_whenDeletedAndAddedAgain_shouldPublishAgain() {
+        warm(MARCH);
+        TransactionSnapshot transaction = expense(3, 100.0, MARCH);
+
+        tracker.onTransactionChanged(TransactionChangedEvent.created(transaction));
+        tracker.onTransactionChanged(TransactionChangedEvent.deleted(transaction));
+        assertEquals(1, events.size());
+        tracker.onTransactionChanged(TransactionChangedEvent.created(transaction));
+
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(event -> event.getThresholdPercent() == 100 && event.getCategoryId() == null));
+    }
+
+    @Test
+    void onTransactionChanged_whenMovedToAnotherCategory_shouldCrossTheNewCategoryBudget() {
+        when(transactionAnalyticsCache.budget(anyLong(), anyInt(), anyInt())).thenReturn(1000.0);
+        categoryBudgets.add(new CategoryBudget(USER_ID, 3, 2024, 3, 50.0));
+        categoryBudgets.add(new CategoryBudget(USER_ID, 4, 2024, 3, 50.0));
+        warm(MARCH);
+        TransactionSnapshot before = expense(3, 50.0, MARCH);
+
+        tracker.onTransactionChanged(TransactionChangedEvent.created(before));
+        tracker.onTransactionChanged(TransactionChangedEvent.updated(before, expense(4, 50.0, MARCH)));
+        tracker.onTransactionChanged(TransactionChangedEvent.updated(expense(4, 50.0, MARCH), before));
+
+        assertEquals(List.of(3, 4, 3), events.stream().map(BudgetThresholdCrossedEvent::getCategoryId).toList());
+        assertEquals(50.0, spent(utilization(MARCH), 3), 1e-9);
+        assertEquals(0.0, spent(utilization(MARCH), 4), 1e-9);
+    }
+
+    @Test
+    void onTransactionChanged_whenMovedToAnotherMonth_shouldCountItThere() {
+        warm(MARCH);
+        warm(APRIL);
+        TransactionSnapshot before = expense(3, 90.0, MARCH);
+
+        tracker.onTransactionChanged(TransactionChangedEvent.created(before));
+        tracker.onTransactionChanged(TransactionChangedEvent.updated(before, expense(3, 90.0, APRIL)));
+
+        assertEquals(2, events.size());
+        assertEquals(List.of(3, 4), events.stream().map(BudgetThresholdCrossedEvent::getMonth).toList());
+        assertEquals(0.0, utilization(MARCH).getSpent(), 1e-9);
+        assertEquals(90.0, utilization(APRIL).getSpent(), 1e-9);
+    }
+
+    @Test
+    void resync_shouldReloadTheCurrentMonthAndDropOthers() {
+        LocalDate today = YearMonth.now().atDay(1);
+        warm(today);
+        warm(MARCH);
+        rows.add(new Object[]{3, 40.0});
+
+        tracker.resync();
+
+        assertEquals(40.0, utilization(today).getSpent(), 1e-9);
+        // March was dropped, so it is loaded again with the new rows.
+        assertEquals(40.0, utilization(MARCH).getSpent(), 1e-9);
+        assertTrue(events.isEmpty(), "events " + events);
+    }
+
+    @Test
+    void utilization_whenAWriteCommitsDuringTheLoad_shouldLoadAgainNextTime() {
+        commitDuringNextLoad(expense(3, 30.0, MARCH));
+
+        assertEquals(0.0, utilization(MARCH).getSpent(), 1e-9);
+
+        assertEquals(30.0, utilization(MARCH).getSpent(), 1e-9);
+    }
+
+    @Test
+    void resync_whenAWriteCommitsDuringTheReload_shouldLoadAgainNextTime() {
+        LocalDate today = YearMonth.now().atDay(1);
+        warm(today);
+        commitDuringNextLoad(expense(3, 30.0, today));
+
+        tracker.resync();
+
+        assertEquals(30.0, utilization(today).getSpent(), 1e-9);
+    }
+
+    // The next rollup read returns the rows as they were and then commits the transaction, the way a
+    // write lands between the read and the installing of its result.
+    private void commitDuringNextLoad(TransactionSnapshot transaction) {
+        when(transactionRollupRepository.findExpenseTotalsByCategory(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<Object[]> read = List.copyOf(rows);
+                    rows.add(new Object[]{transaction.getCategoryId(), transaction.getAmount()});
+                    tracker.onTransactionChanged(TransactionChangedEvent.created(transaction));
+                    return read;
+                })
+                .thenAnswer(invocation -> List.copyOf(rows));
+    }
+
+    private void warm(LocalDate date) {
+        utilization(date);
+    }
+
+    private BudgetUtilizationResponseDto utilization(LocalDate date) {
+        return tracker.utilization(USER_ID, date.getMonthValue(), date.getYear());
+    }
+
+    private static double spent(BudgetUtilizationResponseDto utilization, int categoryId) {
+        return utilization.getCategories().stream()
+                .filter(category -> category.getCategoryId() == categoryId)
+                .mapToDouble(CategoryUtilizationDto::getSpent)
+                .findFirst()
+                .orElse(0.0);
+    }
+
+    private static TransactionSnapshot expense(int categoryId, double amount, LocalDate date) {
+        return new TransactionSnapshot(null, USER_ID, null, categoryId, 1, "Budget test", amount, date);
+    }
+}
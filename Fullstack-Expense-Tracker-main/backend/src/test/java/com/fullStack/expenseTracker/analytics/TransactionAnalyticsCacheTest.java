@@ -0,0 +1,85 @@
+package com.fullStack.expenseTracker.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+
+class TransactionAnalyticsCacheTest {
+
+    private static final long USER_ID = 7L;
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private TransactionRepository transactionRepository;
+
+    private TransactionAnalyticsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        when(transactionRepository.streamColumnsByUserId(USER_ID)).thenAnswer(invocation -> List.copyOf(rows).stream());
+        cache = new TransactionAnalyticsCache();
+        ReflectionTestUtils.setField(cache, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(cache, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1L << 20);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        rows.add(new Object[]{1L, LocalDate.of(2024, 3, 1), 40.0, 3, 1});
+    }
+
+    @Test
+    void forUser_withinTtl_shouldReuseTheSnapshot() {
+        UserTransactionColumns first = cache.forUser(USER_ID);
+
+        assertSame(first, cache.forUser(USER_ID));
+        verify(transactionRepository, times(1)).streamColumnsByUserId(USER_ID);
+    }
+
+    @Test
+    void forUser_afterTtl_shouldReloadWritesOfOtherInstances() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "ttlMs", 20L);
+        UserTransactionColumns first = cache.forUser(USER_ID);
+        // Committed elsewhere, so no TransactionChangedEvent reaches this cache.
+        rows.add(new Object[]{2L, LocalDate.of(2024, 3, 2), 10.0, 3, 1});
+        Thread.sleep(40);
+
+        UserTransactionColumns reloaded = cache.forUser(USER_ID);
+
+        assertNotSame(first, reloaded);
+        assertEquals(2, reloaded.size());
+        assertEquals(Long.valueOf(5000), reloaded.total(UserTransactionColumns.day(LocalDate.of(2024, 3, 1)),
+                UserTransactionColumns.day(LocalDate.of(2024, 4, 1)), 1));
+    }
+
+    @Test
+    void forUser_whenHistoryWasTooLarge_shouldCheckItAgainAfterTtl() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "ttlMs", 20L);
+        ReflectionTestUtils.setField(cache, "maxBytes", 0L);
+
+        assertNull(cache.forUser(USER_ID));
+        assertNull(cache.forUser(USER_ID));
+        verify(transactionRepository, times(1)).streamColumnsByUserId(USER_ID);
+
+        ReflectionTestUtils.setField(cache, "maxBytes", 1L << 20);
+        Thread.sleep(40);
+
+        assertEquals(1, cache.forUser(USER_ID).size());
+        verify(transactionRepository, times(2)).streamColumnsByUserId(USER_ID);
+    }
+}
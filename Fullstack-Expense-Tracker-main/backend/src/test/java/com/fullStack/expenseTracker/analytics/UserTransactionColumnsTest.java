@@ -0,0 +1,67 @@
+package com.fullStack.expenseTracker.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fullStack.expenseTracker.dto.reponses.CategoryTotalDto;
+
+class UserTransactionColumnsTest {
+
+    private static final int MARCH = UserTransactionColumns.day(LocalDate.of(2024, 3, 1));
+
+    private static final int APRIL = UserTransactionColumns.day(LocalDate.of(2024, 4, 1));
+
+    private UserTransactionColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new UserTransactionColumns(2);
+        columns.put(10L, LocalDate.of(2024, 3, 1), 40.10, 3, 1);
+        columns.put(30L, LocalDate.of(2024, 3, 31), 2500.0, 7, 2);
+        columns.put(20L, LocalDate.of(2024, 3, 15), 0.20, 3, 1);
+        columns.put(40L, LocalDate.of(2024, 4, 1), 9.99, 3, 1);
+    }
+
+    @Test
+    void aggregates_shouldSumExactlyInMinorUnitsOverHalfOpenDayRanges() {
+        assertEquals(Long.valueOf(4030), columns.total(MARCH, APRIL, 1));
+        assertEquals(Long.valueOf(250000), columns.total(MARCH, APRIL, 2));
+        assertEquals(3, columns.count(MARCH, APRIL));
+        assertEquals(Long.valueOf(5029), columns.totalForCategory(MARCH, APRIL + 1, 3));
+        assertEquals(List.of(
+                new CategoryTotalDto(3, "cat3", 1, 40.30, 2),
+                new CategoryTotalDto(7, "cat7", 2, 2500.0, 1)), columns.categoryTotals(MARCH, APRIL, id -> "cat" + id));
+    }
+
+    @Test
+    void putAndRemove_shouldPatchRowsInPlaceById() {
+        columns.put(20L, LocalDate.of(2024, 4, 2), 5.0, 7, 2);
+        columns.remove(10L);
+        columns.remove(99L);
+
+        assertEquals(3, columns.size());
+        assertNull(columns.total(MARCH, APRIL, 1));
+        assertNull(columns.totalForCategory(MARCH, APRIL, 99));
+        assertEquals(1499, columns.totalForCategory(APRIL, APRIL + 30, 3) + columns.total(APRIL, APRIL + 30, 2));
+    }
+
+    @Test
+    void bucketTotals_andRetype_shouldSplitIncomeAndExpensePerBucket() {
+        columns.retype(3, 2);
+        int[] bounds = {MARCH, MARCH + 15, APRIL, APRIL + 30};
+        long[] expense = new long[3];
+        long[] income = new long[3];
+        int[] counts = new int[3];
+
+        columns.bucketTotals(bounds, null, null, expense, income, counts);
+
+        assertEquals(List.of(4030L, 250000L, 999L), List.of(income[0], income[1], income[2]));
+        assertEquals(List.of(0L, 0L, 0L), List.of(expense[0], expense[1], expense[2]));
+        assertEquals(List.of(2, 1, 1), List.of(counts[0], counts[1], counts[2]));
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullStack.expenseTracker.exports;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TransactionRowWriterTest {
+
+    @Test
+    void csv_shouldQuoteOnlyWhenNeededAndEncodeUtf8() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionRowWriter writer = TransactionRowWriter.csv(out);
+
+        writer.writeHeader();
+        writer.writeRow(42L, LocalDate.of(2024, 3, 7), "Food", "expense", "Café, \"corner\" 🍕", 12.5);
+        writer.writeRow(7L, null, "Salary", "income", null, 2500.0);
+        writer.flush();
+
+        assertEquals("transactionId,date,category,type,description,amount\n" +
+                        "42,2024-03-07,Food,expense,\"Café, \"\"corner\"\" 🍕\",12.5\n" +
+                        "7,,Salary,income,,2500.0\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ndjson_shouldEscapeStringsAndWriteOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionRowWriter writer = TransactionRowWriter.ndjson(out);
+
+        writer.writeHeader();
+        writer.writeRow(1L, LocalDate.of(2023, 12, 31), "Gifts", "income", "line\nbreak \\ \"quoted\"\u0001", -3.0);
+        writer.flush();
+
+        assertEquals("{\"transactionId\":1,\"date\":\"2023-12-31\",\"category\":\"Gifts\",\"type\":\"income\"," +
+                        "\"description\":\"line\\nbreak \\\\ \\\"quoted\\\"\\u0001\",\"amount\":-3.0}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeRow_withLoneSurrogates_shouldReplaceOnlyThoseCharacters() throws Exception {
+        // A high surrogate without its low half, then a low one without its high half.
+        String description = "a\uD83Db\uDC00c";
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        TransactionRowWriter csvWriter = TransactionRowWriter.csv(csv);
+        csvWriter.writeRow(1L, LocalDate.of(2024, 3, 7), "Food", "expense", description, 1.0);
+        csvWriter.flush();
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        TransactionRowWriter ndjsonWriter = TransactionRowWriter.ndjson(ndjson);
+        ndjsonWriter.writeRow(1L, LocalDate.of(2024, 3, 7), "Food", "expense", description, 1.0);
+        ndjsonWriter.flush();
+
+        assertEquals("1,2024-03-07,Food,expense,a?b?c,1.0\n", csv.toString(StandardCharsets.UTF_8));
+        assertTrue(ndjson.toString(StandardCharsets.UTF_8).contains("\"description\":\"a?b?c\""));
+    }
+
+    @Test
+    void writeRow_shouldWriteLargeAndSmallAmountsAsPlainDecimals() throws Exception {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        TransactionRowWriter csvWriter = TransactionRowWriter.csv(csv);
+        csvWriter.writeRow(1L, LocalDate.of(2024, 3, 7), "Housing", "expense", "Flat", 12_500_000.0);
+        csvWriter.writeRow(2L, LocalDate.of(2024, 3, 7), "Bank Fees", "expense", "Rounding", 0.00001);
+        csvWriter.flush();
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        TransactionRowWriter ndjsonWriter = TransactionRowWriter.ndjson(ndjson);
+        ndjsonWriter.writeRow(1L, LocalDate.of(2024, 3, 7), "Housing", "expense", "Flat", 1e7);
+        ndjsonWriter.flush();
+
+        assertEquals("1,2024-03-07,Housing,expense,Flat,12500000\n" +
+                        "2,2024-03-07,Bank Fees,expense,Rounding,0.000010\n",
+                csv.toString(StandardCharsets.UTF_8));
+        assertTrue(ndjson.toString(StandardCharsets.UTF_8).endsWith(",\"amount\":10000000}\n"));
+    }
+
+    @Test
+    void writeRow_whenBufferFills_shouldFlushWithoutSplittingCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionRowWriter writer = TransactionRowWriter.csv(out);
+        String description = "ü€".repeat(40);
+
+        for (int i = 0; i < 5000; i++) {
+            writer.writeRow(i, LocalDate.of(2024, 1, 1), "Category", "expense", description, i);
+        }
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5000, lines.length);
+        assertTrue(lines[4999].startsWith("4999,2024-01-01,Category,expense," + description + ","));
+    }
+}
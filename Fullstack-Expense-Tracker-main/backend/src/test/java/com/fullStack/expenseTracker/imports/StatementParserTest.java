@@ -0,0 +1,90 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class StatementParserTest {
+
+    @Test
+    void csv_shouldReadQuotedFieldsAndReportBadRows() throws Exception {
+        String csv = "\uFEFFDate,Description,Amount,Category\r\n"
+                + "2024-03-01,\"Corner shop, \"\"Main St\"\"\",-12.50,\n"
+                + "2024-03-02,\"Two\nlines\",\"1,250.00\",Salary\n"
+                + "\n"
+                + "03/04/2024,Bad date,-1,\n"
+                + "2024-03-05,No amount,,\n";
+
+        List<StatementRow> rows = parse(new CsvStatementParser(DateTimeFormatter.ISO_LOCAL_DATE), csv);
+
+        assertEquals(4, rows.size());
+        assertEquals("Corner shop, \"Main St\"", rows.get(0).getDescription());
+        assertEquals(-12.5, rows.get(0).getAmount());
+        assertNull(rows.get(0).getCategory());
+        assertEquals(LocalDate.of(2024, 3, 2), rows.get(1).getDate());
+        assertEquals(1250.0, rows.get(1).getAmount());
+        assertEquals("Salary", rows.get(1).getCategory());
+        assertEquals(6, rows.get(2).getLineNumber());
+        assertTrue(rows.get(2).isFailed());
+        assertEquals("Amount is required!", rows.get(3).getError());
+    }
+
+    @Test
+    void csv_shouldDetectSemicolonsAndDebitCreditColumns() throws Exception {
+        String csv = "Booking Date;Details;Debit;Credit\n"
+                + "01.03.2024;Rent;1.200,00;\n"
+                + "02.03.2024;Refund;;(5,00)\n";
+
+        List<StatementRow> rows = parse(new CsvStatementParser(DateTimeFormatter.ofPattern("dd.MM.yyyy")), csv);
+
+        assertEquals(-1200.0, rows.get(0).getAmount());
+        assertEquals(5.0, rows.get(1).getAmount());
+        assertEquals(LocalDate.of(2024, 3, 2), rows.get(1).getDate());
+    }
+
+    @Test
+    void parseAmount_shouldTellDecimalCommasFromThousandsSeparators() {
+        assertEquals(12.5, CsvStatementParser.parseAmount("12,5"));
+        assertEquals(1.5, CsvStatementParser.parseAmount("1,5"));
+        assertEquals(-0.75, CsvStatementParser.parseAmount("-0,75"));
+        assertEquals(12.34, CsvStatementParser.parseAmount("12,34"));
+        assertEquals(1234.0, CsvStatementParser.parseAmount("1,234"));
+        assertEquals(1234567.0, CsvStatementParser.parseAmount("1,234,567"));
+        assertEquals(1234.5, CsvStatementParser.parseAmount("1.234,5"));
+        assertThrows(NumberFormatException.class, () -> CsvStatementParser.parseAmount("12,3456"));
+        assertThrows(NumberFormatException.class, () -> CsvStatementParser.parseAmount("1,23,4"));
+    }
+
+    @Test
+    void ofx_shouldReadSgmlTransactions() throws Exception {
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+                + "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20240301120000[-5:EST]\n<TRNAMT>-42.10\n<NAME>GROCERY &amp; MORE\n</STMTTRN>\n"
+                + "<STMTTRN>\n<TRNTYPE>CREDIT\n<DTPOSTED>20240325\n<TRNAMT>2500.00\n<MEMO>March salary\n</STMTTRN>\n"
+                + "<STMTTRN>\n<DTPOSTED>2024\n<TRNAMT>1\n</STMTTRN>\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n";
+
+        List<StatementRow> rows = parse(new OfxStatementParser(), ofx);
+
+        assertEquals(3, rows.size());
+        assertEquals("GROCERY & MORE", rows.get(0).getDescription());
+        assertEquals(-42.1, rows.get(0).getAmount());
+        assertEquals(LocalDate.of(2024, 3, 1), rows.get(0).getDate());
+        assertEquals("March salary", rows.get(1).getDescription());
+        assertEquals(2500.0, rows.get(1).getAmount());
+        assertTrue(rows.get(2).isFailed());
+    }
+
+    private static List<StatementRow> parse(StatementParser parser, String content) throws Exception {
+        List<StatementRow> rows = new ArrayList<>();
+        parser.parse(new StringReader(content), rows::add);
+        return rows;
+    }
+}
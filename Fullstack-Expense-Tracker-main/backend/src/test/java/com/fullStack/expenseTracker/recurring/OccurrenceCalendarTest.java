@@ -0,0 +1,36 @@
+package com.fullStack.expenseTracker.recurring;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class OccurrenceCalendarTest {
+
+    @Test
+    void next_shouldMergeThePlansInDateOrderWithinTheRange() {
+        Map<String, RecurrenceRule> rules = Map.of(
+                "weekly", RecurrenceRule.of(ETransactionFrequency.WEEKLY),
+                "monthly", RecurrenceRule.of(ETransactionFrequency.MONTHLY),
+                "once", RecurrenceRule.of(ETransactionFrequency.ONE_TIME),
+                "past", RecurrenceRule.of(ETransactionFrequency.ONE_TIME));
+        Map<String, LocalDate> anchors = Map.of(
+                "weekly", LocalDate.of(2023, 12, 25),
+                "monthly", LocalDate.of(2024, 1, 8),
+                "once", LocalDate.of(2024, 1, 15),
+                "past", LocalDate.of(2023, 12, 1));
+
+        OccurrenceCalendar<String> calendar = new OccurrenceCalendar<>(List.of("weekly", "monthly", "once", "past"),
+                rules::get, anchors::get, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 2, 8));
+        List<String> occurrences = new ArrayList<>();
+        calendar.forEachRemaining(o -> occurrences.add(o.date() + " " + o.plan()));
+
+        assertEquals(List.of("2024-01-08 weekly", "2024-01-08 monthly", "2024-01-15 weekly", "2024-01-15 once",
+                "2024-01-22 weekly", "2024-01-29 weekly", "2024-02-05 weekly", "2024-02-08 monthly"), occurrences);
+    }
+}
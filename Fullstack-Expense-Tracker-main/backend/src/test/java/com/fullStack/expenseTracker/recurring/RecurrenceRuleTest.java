@@ -0,0 +1,76 @@
+package com.fullStack.expenseTracker.recurring;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void dueDates_monthly_shouldCatchUpFromTheAnchorWithoutDrifting() {
+        RecurrenceRule monthly = RecurrenceRule.of(ETransactionFrequency.MONTHLY);
+        List<LocalDate> dates = monthly.dueDates(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 5, 30), 31);
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29),
+                LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30)), dates);
+        assertEquals(LocalDate.of(2024, 5, 31), monthly.occurrence(LocalDate.of(2024, 1, 31), dates.size()));
+    }
+
+    @Test
+    void dueDates_daily_shouldStopAtTodayOrTheLimit() {
+        RecurrenceRule daily = RecurrenceRule.of(ETransactionFrequency.DAILY);
+        LocalDate anchor = LocalDate.of(2024, 12, 30);
+
+        assertEquals(4, daily.dueDates(anchor, LocalDate.of(2025, 1, 2), 31).size());
+        assertEquals(2, daily.dueDates(anchor, LocalDate.of(2025, 1, 2), 2).size());
+        assertEquals(0, daily.dueDates(anchor, LocalDate.of(2024, 12, 29), 31).size());
+    }
+
+    @Test
+    void next_oneTime_shouldHaveNoFurtherOccurrence() {
+        RecurrenceRule oneTime = RecurrenceRule.of(ETransactionFrequency.ONE_TIME);
+
+        assertNull(oneTime.next(LocalDate.of(2024, 1, 1)));
+        assertEquals(List.of(LocalDate.of(2024, 1, 1)),
+                oneTime.dueDates(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), 31));
+    }
+
+    @Test
+    void next_shouldApplyTheIntervalAndPinnedDayOfMonth() {
+        assertEquals(LocalDate.of(2024, 1, 15),
+                new RecurrenceRule(ETransactionFrequency.WEEKLY, 2, null).next(LocalDate.of(2024, 1, 1)));
+        assertEquals(LocalDate.of(2025, 2, 28),
+                new RecurrenceRule(ETransactionFrequency.YEARLY, 1, null).next(LocalDate.of(2024, 2, 29)));
+
+        // Stored upcoming dates stay on the 31st even after passing through February.
+        RecurrenceRule monthEnd = new RecurrenceRule(ETransactionFrequency.MONTHLY, 1, 31);
+        assertEquals(LocalDate.of(2024, 2, 29), monthEnd.next(LocalDate.of(2024, 1, 31)));
+        assertEquals(LocalDate.of(2024, 3, 31), monthEnd.next(LocalDate.of(2024, 2, 29)));
+        assertEquals(LocalDate.of(2024, 7, 31),
+                new RecurrenceRule(ETransactionFrequency.MONTHLY, 3, 31).next(LocalDate.of(2024, 4, 30)));
+
+        assertThrows(IllegalArgumentException.class, () -> new RecurrenceRule(ETransactionFrequency.DAILY, 1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RecurrenceRule(ETransactionFrequency.MONTHLY, 0, null));
+    }
+
+    @Test
+    void firstIndexFrom_shouldFindTheFirstOccurrenceOnOrAfterTheDate() {
+        RecurrenceRule monthly = new RecurrenceRule(ETransactionFrequency.MONTHLY, 1, 1);
+        LocalDate anchor = LocalDate.of(2024, 1, 31);
+
+        long index = monthly.firstIndexFrom(anchor, LocalDate.of(2024, 3, 15));
+        assertEquals(LocalDate.of(2024, 4, 1), monthly.occurrence(anchor, index));
+        assertEquals(0, monthly.firstIndexFrom(anchor, LocalDate.of(2024, 1, 1)));
+
+        RecurrenceRule daily = new RecurrenceRule(ETransactionFrequency.DAILY, 3, null);
+        assertEquals(4, daily.firstIndexFrom(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 11)));
+        assertEquals(-1, RecurrenceRule.of(ETransactionFrequency.ONE_TIME)
+                .firstIndexFrom(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2)));
+    }
+}
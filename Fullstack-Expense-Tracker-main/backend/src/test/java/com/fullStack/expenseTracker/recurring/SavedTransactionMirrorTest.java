@@ -0,0 +1,134 @@
+package com.fullStack.expenseTracker.recurring;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullStack.expenseTracker.enums.ESavedTransactionMirrorMode;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SavedTransactionMirrorTest {
+
+    @Autowired
+    private SavedTransactionMirror savedTransactionMirror;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(savedTransactionMirror, "mode", ESavedTransactionMirrorMode.SYNC);
+        ReflectionTestUtils.setField(savedTransactionMirror, "queue", new ArrayBlockingQueue<>(10000));
+    }
+
+    @Test
+    void mirror_inSyncMode_shouldWriteInBatches() {
+        List<Transaction> transactions = transactions(200);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = savedTransactionRepository.count();
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                savedTransactionMirror.mirror(transactions));
+
+        assertEquals(before + 200, savedTransactionRepository.count());
+        // Pooled ids and batched inserts; writing row by row would take at least 200 statements.
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void mirror_inAsyncMode_shouldQueueAfterCommitAndWriteOnFlush() {
+        ReflectionTestUtils.setField(savedTransactionMirror, "mode", ESavedTransactionMirrorMode.ASYNC);
+        List<Transaction> transactions = transactions(3);
+        long before = savedTransactionRepository.count();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            savedTransactionMirror.mirror(transactions);
+            assertEquals(0, savedTransactionMirror.pending());
+        });
+        assertEquals(3, savedTransactionMirror.pending());
+        assertEquals(before, savedTransactionRepository.count());
+
+        savedTransactionMirror.flush();
+
+        assertEquals(0, savedTransactionMirror.pending());
+        assertEquals(before + 3, savedTransactionRepository.count());
+    }
+
+    @Test
+    void mirror_inAsyncModeWithAFullQueue_shouldCommitTheOverflowFlush() {
+        ReflectionTestUtils.setField(savedTransactionMirror, "mode", ESavedTransactionMirrorMode.ASYNC);
+        ReflectionTestUtils.setField(savedTransactionMirror, "queue", new ArrayBlockingQueue<>(2));
+        List<Transaction> transactions = transactions(5);
+        long before = savedTransactionRepository.count();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                savedTransactionMirror.mirror(transactions));
+
+        // The queue overflowed twice after commit, each time flushing the two mirrors it held.
+        assertEquals(1, savedTransactionMirror.pending());
+        assertEquals(before + 4, savedTransactionRepository.count());
+
+        savedTransactionMirror.flush();
+
+        assertEquals(before + 5, savedTransactionRepository.count());
+    }
+
+    @Test
+    void mirror_whenOff_shouldWriteNothing() {
+        ReflectionTestUtils.setField(savedTransactionMirror, "mode", ESavedTransactionMirrorMode.OFF);
+        long before = savedTransactionRepository.count();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                savedTransactionMirror.mirror(transactions(3)));
+
+        assertEquals(0, savedTransactionMirror.pending());
+        assertEquals(before, savedTransactionRepository.count());
+    }
+
+    private List<Transaction> transactions(int count) {
+        User user = userRepository.findByEmail("admin@gmail.com").orElseThrow();
+        Category category = categoryRepository.findAll().get(0);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(new Transaction(user, category, "Mirrored " + i, 10 + i, LocalDate.of(2024, 3, 1)));
+        }
+        return transactions;
+    }
+}
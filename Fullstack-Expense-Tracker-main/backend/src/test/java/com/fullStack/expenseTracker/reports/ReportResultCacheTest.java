@@ -0,0 +1,66 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.dto.reponses.ReportCacheStatsResponseDto;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class ReportResultCacheTest {
+
+    private ReportResultCache cache(int maxEntries, long ttlMs) {
+        ReportResultCache cache = new ReportResultCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "ttlMs", ttlMs);
+        return cache;
+    }
+
+    @Test
+    void get_shouldServeRepeatsUntilTheUsersDataChanges() {
+        ReportResultCache cache = cache(100, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get(1L, "total", List.of(3, 2024), loads::incrementAndGet));
+        assertEquals(1, cache.get(1L, "total", List.of(3, 2024), loads::incrementAndGet));
+        assertEquals(2, cache.get(2L, "total", List.of(3, 2024), loads::incrementAndGet));
+
+        cache.onTransactionChanged(TransactionChangedEvent.created(
+                new TransactionSnapshot(9L, 1L, "a@b.c", 4, 1, "x", 5.0, LocalDate.of(2024, 3, 1))));
+        assertEquals(3, cache.get(1L, "total", List.of(3, 2024), loads::incrementAndGet));
+        assertEquals(2, cache.get(2L, "total", List.of(3, 2024), loads::incrementAndGet));
+
+        cache.allChanged();
+        assertEquals(4, cache.get(2L, "total", List.of(3, 2024), loads::incrementAndGet));
+
+        ReportCacheStatsResponseDto stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+    }
+
+    @Test
+    void get_shouldDropLeastRecentlyUsedAndExpiredResults() throws Exception {
+        ReportResultCache cache = cache(2, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "a", List.of(), loads::incrementAndGet);
+        cache.get(1L, "b", List.of(), loads::incrementAndGet);
+        cache.get(1L, "a", List.of(), loads::incrementAndGet);
+        cache.get(1L, "c", List.of(), loads::incrementAndGet);
+        assertEquals(1, cache.get(1L, "a", List.of(), loads::incrementAndGet));
+        assertEquals(4, cache.get(1L, "b", List.of(), loads::incrementAndGet));
+        assertEquals(2, cache.stats().getEvictions());
+
+        ReportResultCache shortLived = cache(10, 1);
+        shortLived.get(1L, "a", List.of(), loads::incrementAndGet);
+        Thread.sleep(5);
+        assertEquals(6, shortLived.get(1L, "a", List.of(), loads::incrementAndGet));
+        assertEquals(1, shortLived.stats().getExpirations());
+    }
+}
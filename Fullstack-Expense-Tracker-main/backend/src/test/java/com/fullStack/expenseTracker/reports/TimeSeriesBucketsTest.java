@@ -0,0 +1,50 @@
+package com.fullStack.expenseTracker.reports;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesBucketDto;
+import com.fullStack.expenseTracker.enums.ETimeGranularity;
+
+class TimeSeriesBucketsTest {
+
+    @Test
+    void weeks_shouldCoverWholeWeeksAndFillGaps() {
+        // Wednesday to the following Tuesday touches three Monday-based weeks.
+        TimeSeriesBuckets buckets = new TimeSeriesBuckets(ETimeGranularity.WEEK,
+                LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 19));
+        buckets.add(LocalDate.of(2024, 3, 4), 1, 10.0);
+        buckets.add(LocalDate.of(2024, 3, 10), 2, 100.0);
+        buckets.add(LocalDate.of(2024, 3, 18), 1, 5.5);
+        buckets.add(LocalDate.of(2024, 3, 25), 1, 999.0);
+
+        List<TimeSeriesBucketDto> list = buckets.toList();
+
+        assertEquals(LocalDate.of(2024, 3, 4), buckets.start());
+        assertEquals(LocalDate.of(2024, 3, 25), buckets.endExclusive());
+        assertEquals(List.of(
+                new TimeSeriesBucketDto(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 10), 10.0, 100.0),
+                new TimeSeriesBucketDto(LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 17), 0.0, 0.0),
+                new TimeSeriesBucketDto(LocalDate.of(2024, 3, 18), LocalDate.of(2024, 3, 24), 5.5, 0.0)), list);
+    }
+
+    @Test
+    void years_shouldFoldMonthsAndCountCalendarPeriods() {
+        TimeSeriesBuckets buckets = new TimeSeriesBuckets(ETimeGranularity.YEAR,
+                LocalDate.of(2022, 12, 31), LocalDate.of(2024, 1, 1));
+        buckets.add(LocalDate.of(2022, 12, 1), 2, 300.0);
+        buckets.add(LocalDate.of(2024, 1, 1), 1, 20.0);
+        buckets.add(LocalDate.of(2024, 1, 1), 1, 22.0);
+
+        List<TimeSeriesBucketDto> list = buckets.toList();
+
+        assertEquals(3, list.size());
+        assertEquals(new TimeSeriesBucketDto(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), 0.0, 300.0), list.get(0));
+        assertEquals(new TimeSeriesBucketDto(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 42.0, 0.0), list.get(2));
+        assertEquals(2, TimeSeriesBuckets.count(ETimeGranularity.MONTH, LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1)));
+        assertEquals(1, TimeSeriesBuckets.count(ETimeGranularity.DAY, LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 29)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.fullStack.expenseTracker.reports;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.services.TransactionService;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class TransactionRollupWriterTest {
+
+    private static final String EXACT = "SELECT t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, " +
+            "t.category_id, SUM(t.amount), COUNT(*) FROM transaction t JOIN category c ON c.category_id = t.category_id " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), c.transaction_type_id, t.category_id ORDER BY 1, 2, 3, 4, 5";
+
+    private static final String ROLLUP = "SELECT user_id, rollup_year, rollup_month, transaction_type_id, category_id, " +
+            "total, tx_count FROM transaction_rollup WHERE tx_count <> 0 ORDER BY 1, 2, 3, 4, 5";
+
+    @Autowired
+    private TransactionRollupWriter transactionRollupWriter;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuild_whileTransactionsAreWritten_shouldMatchTheTransactionTable() throws Exception {
+        List<Category> categories = categoryRepository.findAll().subList(0, 3);
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 4; writer++) {
+            int offset = writer;
+            writers.add(pool.submit(() -> {
+                for (int i = 0; i < 40; i++) {
+                    transactionService.addTransaction(new TransactionRequestDto("admin@gmail.com",
+                            categories.get((i + offset) % 3).getCategoryId(), "Rollup " + i, 1.0 + i,
+                            LocalDate.of(2023, 1 + (i + offset) % 3, 10)));
+                }
+                return null;
+            }));
+        }
+        Future<Integer> rebuilds = pool.submit(() -> {
+            int count = 0;
+            while (writing.get()) {
+                transactionRollupWriter.rebuild();
+                count++;
+            }
+            return count;
+        });
+
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        writing.set(false);
+        assertTrue(rebuilds.get() > 0);
+        pool.shutdown();
+
+        assertEquals(rows(EXACT), rows(ROLLUP));
+    }
+
+    private List<List<Long>> rows(String sql) {
+        return jdbcTemplate.queryForList(sql).stream()
+                .map(Map::values)
+                .map(values -> values.stream().map(value -> Math.round(((Number) value).doubleValue())).toList())
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.fullStack.expenseTracker.reports;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+
+class TransactionSpreadsheetWriterTest {
+
+    @Test
+    void write_shouldStreamEveryRowAndSizeColumnsFromSample() throws Exception {
+        int count = TransactionSpreadsheetWriter.ROW_WINDOW * 25;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        TransactionSpreadsheetWriter.write(rows(count), out);
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Transactions");
+            assertEquals(count, sheet.getLastRowNum());
+            assertEquals("Description", sheet.getRow(0).getCell(2).getStringCellValue());
+            Row last = sheet.getRow(count);
+            assertEquals("Transaction " + (count - 1), last.getCell(2).getStringCellValue());
+            assertEquals(count - 1 + 0.25, last.getCell(3).getNumericCellValue());
+            assertTrue(sheet.getColumnWidth(2) > sheet.getColumnWidth(0));
+        }
+    }
+
+    // Run with -Dexport.benchmark=true; prints time and peak heap for the streaming writer and,
+    // where it still fits, the previous in-memory workbook with autosized columns. Add
+    // -Dexport.benchmark.streamingOnly=true to check the streaming writer under a small -Xmx.
+    @Test
+    @EnabledIfSystemProperty(named = "export.benchmark", matches = "true")
+    void benchmark() throws Exception {
+        for (int count : new int[]{10_000, 100_000, 1_000_000}) {
+            measure("sxssf", count, () -> TransactionSpreadsheetWriter.write(rows(count), OutputStream.nullOutputStream()));
+            if (count <= 100_000 && !Boolean.getBoolean("export.benchmark.streamingOnly")) {
+                measure("xssf+autosize", count, () -> writeInMemory(count));
+            }
+        }
+    }
+
+    private static void measure(String name, int count, ThrowingRunnable export) throws Exception {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+        long started = System.nanoTime();
+        export.run();
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%-14s %,10d rows %,8d ms %,6d MB peak heap%n", name, count, millis, peak / (1024 * 1024));
+    }
+
+    private static void writeInMemory(int count) throws Exception {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Transactions");
+            int rowIdx = 0;
+            for (TransactionResponseDto t : (Iterable<TransactionResponseDto>) rows(count)::iterator) {
+                Row row = sheet.createRow(rowIdx++);
+                row.createCell(0).setCellValue(t.getDate().toString());
+                row.createCell(1).setCellValue(t.getCategoryName());
+                row.createCell(2).setCellValue(t.getDescription());
+                row.createCell(3).setCellValue(t.getAmount());
+            }
+            for (int i = 0; i < 4; i++) {
+                sheet.autoSizeColumn(i);
+            }
+            workbook.write(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static Stream<TransactionResponseDto> rows(int count) {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        return IntStream.range(0, count).mapToObj(i -> new TransactionResponseDto(
+                (long) i, 1 + i % 40, "Category " + i % 40, 1 + i % 2, "Transaction " + i,
+                i + 0.25, start.plusDays(i % 1500), "jane@example.com"));
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
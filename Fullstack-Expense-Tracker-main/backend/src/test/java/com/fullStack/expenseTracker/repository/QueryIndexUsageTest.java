@@ -0,0 +1,213 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Applies the migrations, loads a small multi-user fixture, runs the report and listing queries
+// through their repositories and checks with EXPLAIN that the SQL Hibernate actually sent is
+// answered through the intended index. A StatementInspector records that SQL, so a changed query
+// is checked as it is, not as a hand-copied string.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.fullStack.expenseTracker.repository.QueryIndexUsageTest$SqlRecorder"
+})
+@ActiveProfiles("h2")
+class QueryIndexUsageTest {
+
+    private static final int USERS = 20;
+
+    private static final int TRANSACTIONS_PER_USER = 500;
+
+    // Fixture ids start here, clear of the seeded admin and of ids handed out by the application.
+    private static final long FIRST_USER = 1001;
+
+    private static final long USER = FIRST_USER + 2;
+
+    private static final String EMAIL = "user3@example.com";
+
+    // H2 keeps the index it created for fk_transaction_user next to the V3 indexes, while MySQL drops
+    // that implicit index once idx_transaction_user_date covers the key; either answers by user_id.
+    private static final String[] USER_INDEXES = {"idx_transaction_user_", "fk_transaction_user_index"};
+
+    private static boolean loaded;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int expenseCategory;
+
+    @BeforeEach
+    void setUp() {
+        expenseCategory = jdbcTemplate.queryForObject("SELECT MIN(category_id) FROM category", Integer.class);
+        if (!loaded) {
+            loadFixture();
+            loaded = true;
+        }
+    }
+
+    @Test
+    void transactionQueries_shouldUseUserIndexes() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 4, 1);
+        assertUsesIndex(() -> transactionRepository.findByUser(EMAIL,
+                PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "date")), "", ""), USER_INDEXES);
+        assertUsesIndex(() -> transactionRepository.findByUserAfterCursorDesc(EMAIL, "", "",
+                from, 100L, Limit.of(20)), USER_INDEXES);
+        assertUsesIndex(() -> transactionRepository.findByUserAfterCursorAsc(EMAIL, "", "",
+                from, 100L, Limit.of(20)), USER_INDEXES);
+        assertUsesIndex(() -> transactionRepository.findCategoryTotalsByUserBetween(USER, from, to), USER_INDEXES);
+        assertUsesIndex(() -> transactionRepository.findDailyTotalsByUserBetween(USER, from, to, expenseCategory, null),
+                USER_INDEXES);
+        assertUsesIndex(() -> inTransaction(() -> transactionRepository.streamColumnsByUserId(USER).toList()),
+                USER_INDEXES);
+        assertUsesIndex(() -> inTransaction(() -> transactionRepository.streamResponsesByUserEmail(EMAIL).toList()),
+                USER_INDEXES);
+    }
+
+    @Test
+    void reportQueries_shouldUseRollupKey() {
+        assertUsesIndex(() -> transactionRollupRepository.findTotalByUserAndTransactionType(USER, 1, 3, 2024),
+                "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findExpenseTotalsByCategory(USER, 3, 2024), "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findTotalNoOfTransactionsByUser(USER, 3, 2024), "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findTotalByUserAndCategory(EMAIL, expenseCategory, 3, 2024),
+                "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findCategoryTotalsByUser(USER, 3, 2024), "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findMonthlySummaryByUser(EMAIL, 2023, 11), "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findMonthlySummaryByUserId(USER, 2023, 11), "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findMonthlyTotalsByUserBetween(USER, 2023, 11, 2024, 4, null, null),
+                "uk_transaction_rollup");
+        assertUsesIndex(() -> transactionRollupRepository.findMonthTotalsByUserIds(List.of(USER, USER + 1), 3, 2024),
+                "uk_transaction_rollup");
+    }
+
+    @Test
+    void plannerQueries_shouldUseUserIndexes() {
+        LocalDate from = LocalDate.of(2023, 2, 1);
+        LocalDate to = LocalDate.of(2023, 3, 1);
+        assertUsesIndex(() -> savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(USER),
+                "idx_saved_transaction_user_upcoming");
+        assertUsesIndex(() -> savedTransactionRepository.findWithCategoryNameByUserBetween(USER, from, to,
+                PageRequest.of(1, 10)), "idx_saved_transaction_user_upcoming");
+        assertUsesIndex(() -> savedTransactionRepository.findCalendarPlansByUser(USER, from, to),
+                "idx_saved_transaction_user_upcoming");
+        assertUsesIndex(() -> budgetRepository.findByUserIdAndMonthAndYear(USER, 3, 2024), "idx_budget_user_period");
+    }
+
+    // H2 prints the chosen indexes inside the plan text. Every statement the call sent must use one
+    // of the given ones.
+    private void assertUsesIndex(Runnable call, String... indexes) {
+        List<String> statements;
+        synchronized (SqlRecorder.SQL) {
+            SqlRecorder.SQL.clear();
+            call.run();
+            statements = new ArrayList<>(SqlRecorder.SQL);
+        }
+        assertFalse(statements.isEmpty(), "No SQL recorded for " + String.join(", ", indexes));
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                    (rs, rowNum) -> rs.getString(1)));
+            String lowerPlan = plan.toLowerCase(Locale.ROOT);
+            assertTrue(Arrays.stream(indexes).anyMatch(lowerPlan::contains),
+                    () -> "Expected one of " + String.join(", ", indexes) + " for: " + sql + "\nPlan:\n" + plan);
+        }
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private void loadFixture() {
+        List<Object[]> categories = jdbcTemplate.query("SELECT category_id, transaction_type_id FROM category ORDER BY category_id",
+                (rs, rowNum) -> new Object[]{rs.getInt(1), rs.getInt(2)}).subList(0, 10);
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            users.add(new Object[]{FIRST_USER + u, "fixture" + (u + 1), "user" + (u + 1) + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, enabled, username, email, password) VALUES (?, 1, ?, ?, 'x')", users);
+
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        long planId = 100_001;
+        long budgetId = 100_001;
+        for (int u = 0; u < USERS; u++) {
+            long userId = FIRST_USER + u;
+            List<Object[]> transactions = new ArrayList<>();
+            for (int i = 0; i < TRANSACTIONS_PER_USER; i++) {
+                transactions.add(new Object[]{10 + i % 90, categories.get(i % 10)[0],
+                        start.plusDays(i * 3L % 730), userId, "Fixture " + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO transaction (amount, category_id, date, user_id, description) " +
+                    "VALUES (?, ?, ?, ?, ?)", transactions);
+
+            List<Object[]> rollups = new ArrayList<>();
+            List<Object[]> budgets = new ArrayList<>();
+            for (int month = 0; month < 24; month++) {
+                LocalDate first = start.plusMonths(month);
+                for (Object[] category : categories) {
+                    rollups.add(new Object[]{userId, first.getYear(), first.getMonthValue(), category[1], category[0], 100, 2});
+                }
+                budgets.add(new Object[]{budgetId++, 1000, first.getMonthValue(), first.getYear(), userId});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO transaction_rollup (user_id, rollup_year, rollup_month, " +
+                    "transaction_type_id, category_id, total, tx_count) VALUES (?, ?, ?, ?, ?, ?, ?)", rollups);
+            jdbcTemplate.batchUpdate("INSERT INTO budget (budget_id, amount, budget_month, budget_year, user_id) " +
+                    "VALUES (?, ?, ?, ?, ?)", budgets);
+
+            List<Object[]> plans = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                Object[] category = categories.get(i % 10);
+                plans.add(new Object[]{planId++, 25, category[0], category[1], start.plusDays(i * 7L), userId, "Plan " + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO saved_transaction (plan_id, amount, category_id, transaction_type_id, " +
+                    "upcoming_date, user_id, description, frequency) VALUES (?, ?, ?, ?, ?, ?, ?, 'MONTHLY')", plans);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // Registered with Hibernate by class name; keeps the SQL of the statements Hibernate prepares.
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> SQL = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullStack.expenseTracker.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SavedTransactionRepositoryTest {
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void saveAll_shouldTakePooledIdsAndWriteInBatches() {
+        long userId = userRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+        int categoryId = categoryRepository.findAll().get(0).getCategoryId();
+        List<SavedTransaction> plans = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            plans.add(SavedTransaction.builder()
+                    .userId(userId)
+                    .categoryId(categoryId)
+                    .transactionTypeId(1)
+                    .amount(10 + i)
+                    .description("Pooled " + i)
+                    .frequency(ETransactionFrequency.ONE_TIME)
+                    .upcomingDate(LocalDate.of(2024, 3, 1))
+                    .build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = savedTransactionRepository.count();
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                savedTransactionRepository.saveAll(plans));
+
+        assertEquals(before + 200, savedTransactionRepository.count());
+        // Pooled ids and batched inserts; writing row by row would take at least 200 statements.
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
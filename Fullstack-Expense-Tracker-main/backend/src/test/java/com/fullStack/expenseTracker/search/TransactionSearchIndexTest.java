@@ -0,0 +1,107 @@
+package com.fullStack.expenseTracker.search;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+
+class TransactionSearchIndexTest {
+
+    private TransactionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TransactionSearchIndex();
+        TransactionType expense = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+        TransactionType income = new TransactionType(2, ETransactionType.TYPE_INCOME);
+        index.putCategory(new Category(10, "Groceries", expense, true));
+        index.putCategory(new Category(20, "Salary", income, true));
+
+        index.index(snapshot(1L, 10, 1, "Weekly groceries", 40.0, LocalDate.of(2024, 3, 1)));
+        index.index(snapshot(2L, 20, 2, "March pay", 2500.0, LocalDate.of(2024, 3, 25)));
+        index.index(snapshot(3L, 10, 1, "Corner shop", 12.5, LocalDate.of(2024, 3, 2)));
+    }
+
+    @Test
+    void searchUser_shouldMatchSubstringsOfDescriptionsAndCategoryNames() {
+        assertEquals(List.of(1L), index.searchUser("jane@example.com", "KLY gro", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(3L, 1L), index.searchUser("jane@example.com", "grocer", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(2L), index.searchUser("jane@example.com", "sal", "income", "date", true, 0, 10).getIds());
+        assertEquals(List.of(), index.searchUser("jane@example.com", "sal", "expense", "date", true, 0, 10).getIds());
+    }
+
+    @Test
+    void searchUser_shouldPageAndCountInIndexOrder() {
+        TransactionSearchIndex.SearchResult page = index.searchUser("jane@example.com", "r", "", "amount", false, 1, 2);
+
+        assertEquals(List.of(2L), page.getIds());
+        assertEquals(3, page.getTotal());
+    }
+
+    @Test
+    void remove_shouldDropTransactionFromResults() {
+        index.remove(snapshot(3L, 10, 1, "Corner shop", 12.5, LocalDate.of(2024, 3, 2)));
+
+        assertEquals(List.of(1L), index.searchUser("jane@example.com", "groceries", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(), index.searchAll("corner", 0, 10).getIds());
+        assertEquals(List.of(2L, 1L), index.searchAll("example.com", 0, 10).getIds());
+    }
+
+    @Test
+    void searchUser_whenUserIsNotIndexed_shouldLeaveTheSearchToSql() {
+        assertNull(index.searchUser("nobody@example.com", "shop", "", "date", true, 0, 10));
+    }
+
+    @Test
+    void rebuild_shouldKeepChangesMadeWhileStreaming() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        TransactionSearchIndex rebuilt = new TransactionSearchIndex();
+        ReflectionTestUtils.setField(rebuilt, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(rebuilt, "categoryRepository", categoryRepository);
+        ReflectionTestUtils.setField(rebuilt, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(rebuilt, "enabled", true);
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                new Category(10, "Groceries", new TransactionType(1, ETransactionType.TYPE_EXPENSE), true)));
+
+        TransactionSnapshot groceries = snapshot(1L, 10, 1, "Weekly groceries", 40.0, LocalDate.of(2024, 3, 1));
+        TransactionSnapshot shop = snapshot(3L, 10, 1, "Corner shop", 12.5, LocalDate.of(2024, 3, 2));
+        TransactionSnapshot market = snapshot(4L, 10, 1, "Market stall", 8.0, LocalDate.of(2024, 3, 3));
+        TransactionSnapshot farmersMarket = snapshot(4L, 10, 1, "Farmers fair", 8.0, LocalDate.of(2024, 3, 3));
+        // Both writes commit after the stream's snapshot was taken, while it is between rows.
+        when(transactionRepository.streamAllSnapshots()).thenReturn(Stream.of(groceries, shop, market).peek(row -> {
+            if (row == groceries) {
+                rebuilt.onTransactionChanged(TransactionChangedEvent.deleted(shop));
+                rebuilt.onTransactionChanged(TransactionChangedEvent.updated(market, farmersMarket));
+            }
+        }));
+
+        rebuilt.rebuild();
+
+        assertEquals(List.of(), rebuilt.searchUser("jane@example.com", "corner", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(), rebuilt.searchUser("jane@example.com", "stall", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(4L), rebuilt.searchUser("jane@example.com", "fair", "", "date", true, 0, 10).getIds());
+        assertEquals(List.of(4L, 1L), rebuilt.searchUser("jane@example.com", "groceries", "", "date", true, 0, 10).getIds());
+    }
+
+    private static TransactionSnapshot snapshot(long id, int categoryId, int typeId, String description,
+                                                double amount, LocalDate date) {
+        return new TransactionSnapshot(id, 7L, "jane@example.com", categoryId, typeId, description, amount, date);
+    }
+}
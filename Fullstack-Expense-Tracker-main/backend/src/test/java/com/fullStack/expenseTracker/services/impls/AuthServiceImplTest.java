@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +31,7 @@ import com.fullStack.expenseTracker.factories.RoleFactory;
 import com.fullStack.expenseTracker.models.Role;
 import com.fullStack.expenseTracker.models.User;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.PlatformStatsService;
 import com.fullStack.expenseTracker.services.UserService;
 
 @SuppressWarnings("DataFlowIssue")
@@ -48,6 +50,9 @@ class AuthServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PlatformStatsService platformStatsService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -91,6 +96,7 @@ class AuthServiceImplTest {
         assertEquals("encodedPassword", persistedUser.getPassword());
         assertTrue(persistedUser.isEnabled(), "User should be enabled immediately");
         assertEquals(Collections.singleton(userRole), persistedUser.getRoles());
+        verify(platformStatsService).userRegistered(true);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         ApiResponseDto<?> body = response.getBody();
@@ -0,0 +1,166 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fullStack.expenseTracker.controllers.ExportJobController;
+import com.fullStack.expenseTracker.dto.reponses.ExportJobResponseDto;
+import com.fullStack.expenseTracker.enums.EExportStatus;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.ReportService;
+import com.fullStack.expenseTracker.services.UserService;
+
+class ExportJobServiceImplTest {
+
+    private static final String EMAIL = "export@test.com";
+
+    @TempDir
+    Path exportDir;
+
+    // Held closed to keep exports in flight; released after each test.
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ExportJobServiceImpl exportJobService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReportService reportService = mock(ReportService.class);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            OutputStream out = invocation.getArgument(2);
+            out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(reportService).writeUserTransactions(anyString(), any(), any());
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(transactionRepository.existsByUser_Email(anyString())).thenReturn(true);
+
+        exportJobService = new ExportJobServiceImpl();
+        exportJobService.reportService = reportService;
+        exportJobService.userService = mock(UserService.class);
+        exportJobService.transactionRepository = transactionRepository;
+        ReflectionTestUtils.setField(exportJobService, "exportDir", exportDir);
+        ReflectionTestUtils.setField(exportJobService, "maxConcurrentExports", 1);
+        ReflectionTestUtils.setField(exportJobService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(exportJobService, "perUserLimit", 10);
+        ReflectionTestUtils.setField(exportJobService, "retentionMinutes", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        exportJobService.shutdown();
+    }
+
+    @Test
+    void submitExport_whenTheSameExportIsInFlight_shouldReturnTheSameJob() throws Exception {
+        exportJobService.init();
+
+        ExportJobResponseDto first = submit("pdf");
+        ExportJobResponseDto second = submit("pdf");
+        ExportJobResponseDto excel = submit("excel");
+
+        assertEquals(first.getJobId(), second.getJobId());
+        assertNotEquals(first.getJobId(), excel.getJobId());
+    }
+
+    @Test
+    void submitExport_overThePerUserLimit_shouldBeRejected() throws Exception {
+        ReflectionTestUtils.setField(exportJobService, "perUserLimit", 2);
+        exportJobService.init();
+        submit("pdf");
+        submit("excel");
+
+        TransactionServiceLogicException e = assertThrows(TransactionServiceLogicException.class, () -> submit("csv"));
+        assertEquals("You already have 2 exports running: Try again later!", e.getMessage());
+    }
+
+    @Test
+    void submitExport_whenTheQueueIsFull_shouldBeRejected() throws Exception {
+        ReflectionTestUtils.setField(exportJobService, "queueCapacity", 1);
+        exportJobService.init();
+        // One running on the only worker, one waiting in the queue.
+        submit("pdf");
+        submit("excel");
+
+        TransactionServiceLogicException e = assertThrows(TransactionServiceLogicException.class, () -> submit("csv"));
+        assertEquals("Too many exports are queued: Try again later!", e.getMessage());
+    }
+
+    @Test
+    void evictExpiredExports_shouldDeleteTheFileOfAnExpiredExport() throws Exception {
+        ReflectionTestUtils.setField(exportJobService, "retentionMinutes", 0L);
+        exportJobService.init();
+        release.countDown();
+        String jobId = completed(submit("pdf")).getJobId();
+        Path file = exportDir.resolve(jobId + ".pdf");
+        assertTrue(Files.exists(file));
+        Thread.sleep(5);
+
+        exportJobService.evictExpiredExports();
+
+        assertFalse(Files.exists(file));
+        assertThrows(TransactionServiceLogicException.class, () -> exportJobService.getExportStatus(EMAIL, jobId));
+    }
+
+    @Test
+    void downloadExport_withRangeHeader_shouldAnswerWithPartialContent() throws Exception {
+        exportJobService.init();
+        release.countDown();
+        String jobId = completed(submit("csv")).getJobId();
+        ExportJobController controller = new ExportJobController();
+        ReflectionTestUtils.setField(controller, "exportJobService", exportJobService);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        mockMvc.perform(get("/mypockit/report/export/download")
+                        .param("email", EMAIL)
+                        .param("jobId", jobId)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    private ExportJobResponseDto submit(String format) throws Exception {
+        return (ExportJobResponseDto) exportJobService.submitExport(EMAIL, format).getBody().getResponse();
+    }
+
+    private ExportJobResponseDto completed(ExportJobResponseDto job) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ExportJobResponseDto current = job;
+        while (current.getStatus() == EExportStatus.QUEUED || current.getStatus() == EExportStatus.RUNNING) {
+            assertTrue(System.currentTimeMillis() < deadline, "export " + job.getJobId() + " did not finish");
+            Thread.sleep(10);
+            current = (ExportJobResponseDto) exportJobService.getExportStatus(EMAIL, job.getJobId()).getBody().getResponse();
+        }
+        assertEquals(EExportStatus.COMPLETED, current.getStatus());
+        return current;
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fullStack.expenseTracker.dto.reponses.PlatformStatsResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.services.TransactionService;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class PlatformStatsServiceImplTest {
+
+    private static final String EXACT = "SELECT COUNT(*), COALESCE(SUM(ROUND(t.amount * 100)), 0) FROM transaction t " +
+            "JOIN category c ON c.category_id = t.category_id WHERE c.transaction_type_id = ?";
+
+    @Autowired
+    private PlatformStatsServiceImpl platformStatsService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reconcile_whileTransactionsAreAdded_shouldCountEachTransactionOnce() throws Exception {
+        List<Category> categories = List.of(category(1), category(2));
+        // Drift for the reconciliation to correct.
+        jdbcTemplate.update("UPDATE platform_stat SET stat_value = stat_value + 1000 WHERE stat_key = 'transactions_expense'");
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 4; writer++) {
+            int offset = writer;
+            writers.add(pool.submit(() -> {
+                for (int i = 0; i < 40; i++) {
+                    transactionService.addTransaction(new TransactionRequestDto("admin@gmail.com",
+                            categories.get((i + offset) % 2).getCategoryId(), "Stats " + i, 1.25 + i,
+                            LocalDate.now()));
+                }
+                return null;
+            }));
+        }
+        Future<Integer> reconciliations = pool.submit(() -> {
+            int count = 0;
+            do {
+                platformStatsService.reconcile();
+                count++;
+            } while (writing.get());
+            return count;
+        });
+
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        writing.set(false);
+        assertTrue(reconciliations.get() > 0);
+        pool.shutdown();
+        platformStatsService.flush();
+
+        PlatformStatsResponseDto stats = (PlatformStatsResponseDto) platformStatsService.getStats().getBody().getResponse();
+        List<Long> expense = exact(1);
+        List<Long> income = exact(2);
+        assertEquals(expense.get(0), stats.getNoOfExpenseTransactions());
+        assertEquals(income.get(0), stats.getNoOfIncomeTransactions());
+        assertEquals(expense.get(1) / 100.0, stats.getTotalExpense(), 1e-9);
+        assertEquals(income.get(1) / 100.0, stats.getTotalIncome(), 1e-9);
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class), stats.getTotalUsers());
+    }
+
+    private Category category(int transactionTypeId) {
+        return categoryRepository.findAll().stream()
+                .filter(category -> category.getTransactionType().getTransactionTypeId() == transactionTypeId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Long> exact(int transactionTypeId) {
+        return jdbcTemplate.queryForObject(EXACT, (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)), transactionTypeId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.SavedTransactionService;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class RecurringTransactionServiceImplTest {
+
+    @Autowired
+    private RecurringTransactionServiceImpl recurringTransactionService;
+
+    @Autowired
+    private SavedTransactionService savedTransactionService;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(recurringTransactionService, "chunkSize", 500);
+        jdbcTemplate.update("UPDATE job_lease SET lease_owner = NULL, lease_until = '1970-01-01 00:00:00' WHERE job_name = ?",
+                RecurringTransactionServiceImpl.JOB_NAME);
+    }
+
+    @Test
+    void materialize_whenAnotherInstanceHoldsTheLease_shouldPostNothing() throws Exception {
+        LocalDate due = LocalDate.now().minusDays(1);
+        SavedTransaction plan = plan("Leased plan", due);
+        jdbcTemplate.update("UPDATE job_lease SET lease_owner = 'other-instance', lease_until = ? WHERE job_name = ?",
+                LocalDateTime.now().plusHours(1), RecurringTransactionServiceImpl.JOB_NAME);
+
+        assertEquals(0, recurringTransactionService.materializeDueTransactions());
+
+        assertEquals(due, savedTransactionRepository.findById(plan.getPlanId()).orElseThrow().getUpcomingDate());
+        assertEquals(0, transactions("Leased plan"));
+    }
+
+    @Test
+    void materialize_withMoreDuePlansThanOneChunk_shouldPostEveryPlan() throws Exception {
+        ReflectionTestUtils.setField(recurringTransactionService, "chunkSize", 2);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 5; i++) {
+            plan("Chunked plan " + i, today.minusMonths(2));
+        }
+
+        assertTrue(recurringTransactionService.materializeDueTransactions() >= 15);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(3, transactions("Chunked plan " + i));
+        }
+        savedTransactionRepository.findAll().stream()
+                .filter(plan -> plan.getDescription().startsWith("Chunked plan "))
+                .forEach(plan -> assertTrue(plan.getUpcomingDate().isAfter(today)));
+    }
+
+    private SavedTransaction plan(String description, LocalDate upcomingDate) throws Exception {
+        long userId = userRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+        savedTransactionService.createSavedTransaction(new SavedTransactionRequestDto(userId,
+                categoryRepository.findAll().get(0).getCategoryId(), 12.5, description, ETransactionFrequency.MONTHLY,
+                upcomingDate, null, null));
+        return savedTransactionRepository.findAll().stream()
+                .filter(plan -> plan.getDescription().equals(description))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int transactions(String description) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE description = ?", Integer.class, description);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fullStack.expenseTracker.dto.reponses.DashboardResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionsMonthlySummaryDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.ReportService;
+import com.fullStack.expenseTracker.services.TransactionService;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class ReportServiceImplTest {
+
+    private static final String EMAIL = "admin@gmail.com";
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void getDashboard_shouldFoldTheMonthAndItsTrend() throws Exception {
+        // A year no other test writes to.
+        add(category(ETransactionType.EXPENSE_ID), 12.5, LocalDate.of(2031, 5, 3));
+        add(category(ETransactionType.INCOME_ID), 40.0, LocalDate.of(2031, 5, 20));
+        add(category(ETransactionType.EXPENSE_ID), 7.0, LocalDate.of(2031, 1, 9));
+
+        DashboardResponseDto dashboard = (DashboardResponseDto) reportService.getDashboard(userId(), 5, 2031)
+                .getBody().getResponse();
+
+        assertEquals(5, dashboard.getMonth());
+        assertEquals(2031, dashboard.getYear());
+        assertEquals(40.0, dashboard.getTotalIncome(), 1e-9);
+        assertEquals(12.5, dashboard.getTotalExpense(), 1e-9);
+        assertEquals(2, dashboard.getNoOfTransactions());
+        assertEquals(2, dashboard.getCategoryTotals().size());
+        TransactionsMonthlySummaryDto january = dashboard.getMonthlySummary().stream()
+                .filter(summary -> summary.getYear() == 2031 && summary.getMonth() == 1)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(7.0, january.getTotal_expense(), 1e-9);
+    }
+
+    @Test
+    void getDashboard_withMonthOutOfRange_shouldBeRejected() {
+        long userId = userId();
+
+        for (int month : new int[]{0, 13}) {
+            TransactionServiceLogicException e = assertThrows(TransactionServiceLogicException.class,
+                    () -> reportService.getDashboard(userId, month, 2031));
+            assertEquals("Month must be between 1 and 12", e.getMessage());
+        }
+    }
+
+    private void add(Category category, double amount, LocalDate date) throws Exception {
+        transactionService.addTransaction(new TransactionRequestDto(EMAIL, category.getCategoryId(), "Dashboard", amount, date));
+    }
+
+    private Category category(int transactionTypeId) {
+        return categoryRepository.findAll().stream()
+                .filter(category -> category.getTransactionType().getTransactionTypeId() == transactionTypeId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long userId() {
+        return userRepository.findByEmail(EMAIL).orElseThrow().getId();
+    }
+}
@@ -0,0 +1,85 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.recurring.SavedTransactionMirror;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.SavedTransactionService;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SavedTransactionCompactionServiceImplTest {
+
+    private static final LocalDate PAST = LocalDate.of(2020, 6, 1);
+
+    @Autowired
+    private SavedTransactionCompactionServiceImpl savedTransactionCompactionService;
+
+    @Autowired
+    private SavedTransactionMirror savedTransactionMirror;
+
+    @Autowired
+    private SavedTransactionService savedTransactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compact_shouldRemoveOnlyMirrorsAndKeepOneTimePlansOfUsers() throws Exception {
+        User user = userRepository.findByEmail("admin@gmail.com").orElseThrow();
+        Category category = categoryRepository.findAll().get(0);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> savedTransactionMirror.mirror(List.of(
+                new Transaction(user, category, "Compacted mirror", 20.0, PAST))));
+        savedTransactionService.createSavedTransaction(new SavedTransactionRequestDto(user.getId(),
+                category.getCategoryId(), 20.0, "Kept one time plan", ETransactionFrequency.ONE_TIME, PAST, null, null));
+
+        savedTransactionCompactionService.compact();
+
+        assertEquals(0, rows("saved_transaction", "Compacted mirror"));
+        assertEquals(1, rows("saved_transaction_archive", "Compacted mirror"));
+        assertEquals(1, rows("saved_transaction", "Kept one time plan"));
+        assertEquals(0, rows("saved_transaction_archive", "Kept one time plan"));
+    }
+
+    @Test
+    void compact_shouldKeepMirrorsWithinTheRetention() throws Exception {
+        User user = userRepository.findByEmail("admin@gmail.com").orElseThrow();
+        Category category = categoryRepository.findAll().get(0);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> savedTransactionMirror.mirror(List.of(
+                new Transaction(user, category, "Recent mirror", 20.0, LocalDate.now().minusDays(1)))));
+
+        savedTransactionCompactionService.compact();
+
+        assertEquals(1, rows("saved_transaction", "Recent mirror"));
+        assertEquals(0, rows("saved_transaction_archive", "Recent mirror"));
+    }
+
+    private int rows(String table, String description) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE description = ?", Integer.class, description);
+    }
+}
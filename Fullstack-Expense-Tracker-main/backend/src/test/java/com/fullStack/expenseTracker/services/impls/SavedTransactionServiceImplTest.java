@@ -0,0 +1,269 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchResultDto;
+import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionBatchRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionBatchRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.SavedTransactionService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class SavedTransactionServiceImplTest {
+
+    @Autowired
+    private SavedTransactionService savedTransactionService;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    private SavedTransactionBatchRepository savedTransactionBatchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void addSavedTransaction_forMonthEndPlan_shouldStayOnMonthEndsAfterFebruary() throws Exception {
+        SavedTransaction plan = plan("Month end rent", ETransactionFrequency.MONTHLY, LocalDate.of(2025, 1, 31));
+        assertEquals(31, plan.getDayOfMonth());
+
+        savedTransactionService.addSavedTransaction(plan.getPlanId(), null);
+        assertEquals(LocalDate.of(2025, 2, 28), upcomingDate(plan));
+        savedTransactionService.addSavedTransaction(plan.getPlanId(), null);
+
+        assertEquals(LocalDate.of(2025, 3, 31), upcomingDate(plan));
+    }
+
+    @Test
+    void getAllTransactionsByUserAndMonth_withPageSizeOverTheCap_shouldBeRejected() {
+        long userId = userRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+
+        UserServiceLogicException e = assertThrows(UserServiceLogicException.class, () ->
+                savedTransactionService.getAllTransactionsByUserAndMonth(userId, 3, 2025, null, null, 0, 101));
+        assertEquals("Page size must be between 1 and 100", e.getMessage());
+    }
+
+    @Test
+    void addSavedTransactions_withMixedIds_shouldReportEachItemAndReturn207() throws Exception {
+        SavedTransaction plan = stored("Bulk valid", 1, LocalDate.of(2024, 6, 5));
+        SavedTransaction undated = stored("Bulk undated", 1, null);
+        SavedTransaction orphaned = stored("Bulk orphaned", 99999, LocalDate.of(2024, 6, 5));
+
+        ResponseEntity<ApiResponseDto<?>> response = savedTransactionService.addSavedTransactions(Arrays.asList(
+                plan.getPlanId(), 987654321L, plan.getPlanId(), undated.getPlanId(), orphaned.getPlanId()));
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+        assertEquals(5, batch.getTotal());
+        assertEquals(1, batch.getSucceeded());
+        assertEquals(4, batch.getFailed());
+        List<BatchItemResultDto> results = batch.getResults();
+        assertEquals(ApiResponseStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals("Bulk valid", jdbcTemplate.queryForObject("SELECT description FROM transaction WHERE transaction_id = ?",
+                String.class, results.get(0).getId()));
+        assertEquals("Transaction not found with id: 987654321", results.get(1).getMessage());
+        assertEquals("This saved transaction is given more than once", results.get(2).getMessage());
+        assertEquals("This saved transaction has no upcoming date", results.get(3).getMessage());
+        assertEquals("The user or category of this saved transaction no longer exists", results.get(4).getMessage());
+        for (int i = 1; i < results.size(); i++) {
+            assertEquals(ApiResponseStatus.FAILED, results.get(i).getStatus());
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(LocalDate.of(2024, 7, 5), upcomingDate(plan));
+        assertEquals(LocalDate.of(2024, 6, 5), upcomingDate(orphaned));
+    }
+
+    @Test
+    void skipSavedTransactions_whenEveryItemFails_shouldReturn400() throws Exception {
+        SavedTransaction undated = stored("Skip undated", 1, null);
+
+        ResponseEntity<ApiResponseDto<?>> response = savedTransactionService.skipSavedTransactions(
+                List.of(987654321L, undated.getPlanId()));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(ApiResponseStatus.FAILED, response.getBody().getStatus());
+        BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+        assertEquals(0, batch.getSucceeded());
+        assertEquals(2, batch.getFailed());
+    }
+
+    @Test
+    void addSavedTransactions_shouldSelectOnceAndWriteInBatches() throws Exception {
+        Object service = AopTestUtils.getUltimateTargetObject(savedTransactionService);
+        TransactionBatchRepository batchRepository = spy((TransactionBatchRepository) AopTestUtils.getUltimateTargetObject(transactionBatchRepository));
+        SavedTransactionBatchRepository claimRepository = spy((SavedTransactionBatchRepository) AopTestUtils.getUltimateTargetObject(savedTransactionBatchRepository));
+        ReflectionTestUtils.setField(service, "transactionBatchRepository", batchRepository);
+        ReflectionTestUtils.setField(service, "savedTransactionBatchRepository", claimRepository);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        try {
+            List<Long> ids = plans("Batched", 30);
+            statistics.clear();
+
+            savedTransactionService.addSavedTransactions(ids);
+
+            // One select loads every plan and the claims and the transactions go out as one batch
+            // each; statement by statement, 30 plans would take at least 60.
+            EntityStatistics plansStatistics = statistics.getEntityStatistics(SavedTransaction.class.getName());
+            assertTrue(statistics.getPrepareStatementCount() < 15,
+                    "prepared " + statistics.getPrepareStatementCount() + " statements");
+            assertEquals(30, plansStatistics.getLoadCount());
+            assertEquals(0, plansStatistics.getFetchCount());
+            assertEquals(0, plansStatistics.getUpdateCount());
+            verify(claimRepository, times(1)).claimAll(argThat(claims -> claims.size() == 30));
+            verify(batchRepository, times(1)).insertAll(argThat(transactions -> transactions.size() == 30));
+            assertTrue(ids.stream().allMatch(id -> LocalDate.of(2024, 6, 12).equals(
+                    savedTransactionRepository.findById(id).orElseThrow().getUpcomingDate())));
+        } finally {
+            ReflectionTestUtils.setField(service, "transactionBatchRepository", transactionBatchRepository);
+            ReflectionTestUtils.setField(service, "savedTransactionBatchRepository", savedTransactionBatchRepository);
+        }
+    }
+
+    @Test
+    void addSavedTransaction_whenAddedTwiceConcurrently_shouldInsertOnce() throws Exception {
+        List<Long> ids = plans("Raced single", 5);
+        for (Long id : ids) {
+            List<Object> outcomes = race(() -> savedTransactionService.addSavedTransaction(id, LocalDate.of(2024, 5, 12))
+                    .getStatusCode());
+
+            assertTrue(outcomes.contains(HttpStatus.CREATED), "outcomes " + outcomes);
+            assertTrue(outcomes.contains(HttpStatus.CONFLICT), "outcomes " + outcomes);
+            assertEquals(1, transactionCount(savedTransactionRepository.findById(id).orElseThrow().getDescription()));
+        }
+    }
+
+    @Test
+    void addSavedTransactions_whenAddedTwiceConcurrently_shouldInsertOnceAndFailTheOtherItem() throws Exception {
+        List<Long> ids = plans("Raced bulk", 5);
+        for (Long id : ids) {
+            List<Object> outcomes = race(() -> {
+                BatchResultDto batch = (BatchResultDto) savedTransactionService.addSavedTransactions(List.of(id))
+                        .getBody().getResponse();
+                BatchItemResultDto result = batch.getResults().get(0);
+                return result.getStatus() == ApiResponseStatus.SUCCESS ? result.getStatus() : result.getMessage();
+            });
+
+            assertTrue(outcomes.contains(ApiResponseStatus.SUCCESS), "outcomes " + outcomes);
+            assertTrue(outcomes.contains("This occurrence has already been added or skipped!"), "outcomes " + outcomes);
+            assertEquals(1, transactionCount(savedTransactionRepository.findById(id).orElseThrow().getDescription()));
+            assertEquals(LocalDate.of(2024, 6, 12), savedTransactionRepository.findById(id).orElseThrow().getUpcomingDate());
+        }
+    }
+
+    // Runs the call on two threads released together and returns both outcomes.
+    private List<Object> race(Callable<Object> call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long transactionCount(String description) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE description = ?", Long.class, description);
+    }
+
+    private List<Long> plans(String description, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(stored(description + " " + i, 1, LocalDate.of(2024, 5, 12)).getPlanId());
+        }
+        return ids;
+    }
+
+    // Saved directly, so plans the service would refuse to create can be set up.
+    private SavedTransaction stored(String description, int categoryId, LocalDate upcomingDate) {
+        long userId = userRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+        int category = categoryId == 1 ? categoryRepository.findAll().get(0).getCategoryId() : categoryId;
+        return savedTransactionRepository.save(SavedTransaction.builder()
+                .userId(userId)
+                .categoryId(category)
+                .transactionTypeId(1)
+                .amount(42.0)
+                .description(description)
+                .frequency(upcomingDate == null ? ETransactionFrequency.ONE_TIME : ETransactionFrequency.MONTHLY)
+                .upcomingDate(upcomingDate)
+                .build());
+    }
+
+    private SavedTransaction plan(String description, ETransactionFrequency frequency, LocalDate upcomingDate) throws Exception {
+        long userId = userRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+        savedTransactionService.createSavedTransaction(new SavedTransactionRequestDto(userId,
+                categoryRepository.findAll().get(0).getCategoryId(), 950.0, description, frequency, upcomingDate, null, null));
+        return savedTransactionRepository.findAll().stream()
+                .filter(plan -> plan.getDescription().equals(description))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private LocalDate upcomingDate(SavedTransaction plan) {
+        return savedTransactionRepository.findById(plan.getPlanId()).orElseThrow().getUpcomingDate();
+    }
+}
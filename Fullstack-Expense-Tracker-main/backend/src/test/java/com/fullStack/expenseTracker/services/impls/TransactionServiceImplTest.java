@@ -0,0 +1,240 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchResultDto;
+import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionBatchRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.TransactionService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class TransactionServiceImplTest {
+
+    private static final String EMAIL = "admin@gmail.com";
+
+    private static final LocalDate DATE = LocalDate.of(2032, 2, 14);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void addTransactions_withMixedItems_shouldReportEachItemAndReturn207() throws Exception {
+        int category = category();
+
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.addTransactions(Arrays.asList(
+                new TransactionRequestDto(EMAIL, category, "Batch mixed", 12.5, DATE),
+                new TransactionRequestDto("nobody@test.com", category, "Batch mixed", 1.0, DATE),
+                new TransactionRequestDto(EMAIL, 99999, "Batch mixed", 1.0, DATE),
+                null,
+                new TransactionRequestDto(EMAIL, category, "Batch mixed", null, DATE)));
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(ApiResponseStatus.SUCCESS, response.getBody().getStatus());
+        BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+        assertEquals(5, batch.getTotal());
+        assertEquals(1, batch.getSucceeded());
+        assertEquals(4, batch.getFailed());
+        List<BatchItemResultDto> results = batch.getResults();
+        assertEquals(ApiResponseStatus.SUCCESS, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(12.5, jdbcTemplate.queryForObject("SELECT amount FROM transaction WHERE transaction_id = ?",
+                Double.class, results.get(0).getId()));
+        assertEquals("User not found with email nobody@test.com", results.get(1).getMessage());
+        assertEquals("Category not found with id 99999", results.get(2).getMessage());
+        assertEquals("Transaction is required!", results.get(3).getMessage());
+        assertEquals("Amount is required!", results.get(4).getMessage());
+        for (int i = 1; i < results.size(); i++) {
+            assertEquals(ApiResponseStatus.FAILED, results.get(i).getStatus());
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(1, transactionCount("Batch mixed"));
+    }
+
+    @Test
+    void addTransactions_whenEveryItemIsValid_shouldReturn201() throws Exception {
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.addTransactions(requests("Batch valid", 3));
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+        assertEquals(3, batch.getSucceeded());
+        assertEquals(0, batch.getFailed());
+        assertEquals(3, transactionCount("Batch valid"));
+    }
+
+    @Test
+    void addTransactions_whenEveryItemFails_shouldReturn400() throws Exception {
+        ResponseEntity<ApiResponseDto<?>> response = transactionService.addTransactions(List.of(
+                new TransactionRequestDto("nobody@test.com", category(), "Batch failed", 1.0, DATE)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(ApiResponseStatus.FAILED, response.getBody().getStatus());
+        BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+        assertEquals(0, batch.getSucceeded());
+        assertEquals(1, batch.getFailed());
+    }
+
+    @Test
+    void addTransactions_overTheBatchLimit_shouldBeRejected() {
+        List<TransactionRequestDto> requests = requests("Batch too large", 5001);
+
+        TransactionServiceLogicException e = assertThrows(TransactionServiceLogicException.class,
+                () -> transactionService.addTransactions(requests));
+        assertEquals("A batch can have atmost 5000 transactions!", e.getMessage());
+        assertEquals(0, transactionCount("Batch too large"));
+    }
+
+    @Test
+    void addTransactions_whenAChunkIsRejected_shouldKeepTheOtherChunks() throws Exception {
+        Object service = AopTestUtils.getUltimateTargetObject(transactionService);
+        TransactionBatchRepository batchRepository = spy((TransactionBatchRepository) AopTestUtils.getUltimateTargetObject(transactionBatchRepository));
+        // The first chunk of 500 is written and then rejected, the second goes through.
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            throw new DataIntegrityViolationException("rejected");
+        }).doCallRealMethod()
+                .when(batchRepository).insertAll(any());
+        ReflectionTestUtils.setField(service, "transactionBatchRepository", batchRepository);
+        try {
+            ResponseEntity<ApiResponseDto<?>> response = transactionService.addTransactions(requests("Batch chunked", 600));
+
+            assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+            BatchResultDto batch = (BatchResultDto) response.getBody().getResponse();
+            assertEquals(100, batch.getSucceeded());
+            assertEquals(500, batch.getFailed());
+            List<BatchItemResultDto> results = batch.getResults();
+            assertTrue(results.subList(0, 500).stream().allMatch(result -> result.getStatus() == ApiResponseStatus.FAILED
+                    && result.getMessage().equals("Failed to record this transaction: Try again later!")));
+            assertTrue(results.subList(500, 600).stream().allMatch(result -> result.getStatus() == ApiResponseStatus.SUCCESS));
+            assertEquals(100, transactionCount("Batch chunked"));
+        } finally {
+            ReflectionTestUtils.setField(service, "transactionBatchRepository", transactionBatchRepository);
+        }
+    }
+
+    @Test
+    void getTransactionsByUser_shouldTakeOneStatement() throws Exception {
+        String email = readerEmail();
+        Statistics statistics = statistics();
+
+        PageResponseDto<?> page = (PageResponseDto<?>) transactionService.getTransactionsByUser(email, 0, 10, "",
+                "date", "DESC", "").getBody().getResponse();
+
+        // A short first page is its own total, so Spring Data sends no count query.
+        assertEquals(3L, page.getTotalNoOfRecords());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllTransactions_shouldTakeOneStatement() throws Exception {
+        readerEmail();
+        int total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction", Integer.class);
+        Statistics statistics = statistics();
+
+        // One page that holds every row, so again no count query.
+        PageResponseDto<?> page = (PageResponseDto<?>) transactionService.getAllTransactions(0, total + 1, "")
+                .getBody().getResponse();
+
+        assertEquals((long) total, page.getTotalNoOfRecords());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTransactionById_shouldTakeOneStatement() throws Exception {
+        String email = readerEmail();
+        long id = jdbcTemplate.queryForObject("SELECT MAX(t.transaction_id) FROM transaction t JOIN users u ON u.id = t.user_id " +
+                "WHERE u.email = ?", Long.class, email);
+        Statistics statistics = statistics();
+
+        TransactionResponseDto transaction = (TransactionResponseDto) transactionService.getTransactionById(id)
+                .getBody().getResponse();
+
+        assertEquals(email, transaction.getUserEmail());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // A user of its own with three transactions, so the page sizes above are known.
+    private String readerEmail() throws Exception {
+        String email = "reader@test.com";
+        if (userRepository.findByEmail(email).isEmpty()) {
+            userRepository.save(User.builder().username("reader").email(email).password("x").build());
+            for (TransactionRequestDto request : requests("Reads", 3)) {
+                request.setUserEmail(email);
+                transactionService.addTransaction(request);
+            }
+        }
+        return email;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private List<TransactionRequestDto> requests(String description, int count) {
+        int category = category();
+        List<TransactionRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new TransactionRequestDto(EMAIL, category, description, 1.0 + i, DATE));
+        }
+        return requests;
+    }
+
+    private int category() {
+        return categoryRepository.findAll().get(0).getCategoryId();
+    }
+
+    private long transactionCount(String description) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE description = ?", Long.class, description);
+    }
+}
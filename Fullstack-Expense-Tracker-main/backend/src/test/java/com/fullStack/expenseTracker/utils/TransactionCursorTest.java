@@ -0,0 +1,32 @@
+package com.fullStack.expenseTracker.utils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class TransactionCursorTest {
+
+    @Test
+    void encode_thenDecode_shouldRoundTrip() {
+        TransactionCursor cursor = new TransactionCursor("date", true, LocalDate.of(2024, 2, 29), 4711L);
+
+        TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_whenTampered_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("%%%"));
+    }
+
+    @Test
+    void decode_whenSortFieldNotWhitelisted_shouldThrowException() {
+        String forged = new TransactionCursor("amount", false, LocalDate.of(2024, 1, 1), 1L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode(forged));
+    }
+}
@@ -95,7 +95,9 @@ function SavedTransactionForm({categories, onSubmit, isDeleting, isSaving, trans
                 <select {...register('frequency')}>
                     <option value="ONE_TIME">One time</option>
                     <option value="DAILY">Daily</option>
+                    <option value="WEEKLY">Weekly</option>
                     <option value="MONTHLY">Monthly</option>
+                    <option value="YEARLY">Yearly</option>
                 </select>
                 {formState.errors.frequency && <small>{formState.errors.frequency.message}</small>}
             </div>
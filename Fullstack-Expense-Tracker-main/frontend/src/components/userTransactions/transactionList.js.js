@@ -1,5 +1,6 @@
 import '../../assets/styles/transactionList.css'
 import { Link } from 'react-router-dom';
+import { EXPENSE_TYPE_ID } from '../../services/transactionTypes';
 
 function TransactionList({ list }) {
 
@@ -19,7 +20,7 @@ function TransactionList({ list }) {
                                             </div>
                                             <div className='t-row-right'>
                                                 <p> {
-                                                        t.transactionType === 1 ? "- " : "+ "
+                                                        t.transactionType === EXPENSE_TYPE_ID ? "- " : "+ "
                                                     }
                                                     Rs. {t.amount}</p>
                                             </div>
@@ -1,21 +1,29 @@
 import { useEffect, useState } from "react";
-import useCategories from "./useCategories";
 import UserService from "../services/userService";
 import AuthService from "../services/auth.service";
+import { EXPENSE_TYPE_ID } from "../services/transactionTypes";
 
 function useDashboard(currentMonth, refreshKey = 0) {
     const [total_income, setIncome] = useState(0)
     const [total_expense, setExpense] = useState(0)
     const [no_of_transactions, setTransactions] = useState(0)
     const cash_in_hand = total_income > total_expense ? Number((total_income - total_expense)?.toFixed(2)) : 0;
-    const [categories] = useCategories()
     const [categorySummary, setCategorySummary] = useState([])
     const [budgetAmount, setBudgetAmount] = useState(0)
     const [isLoading, setIsLoading] = useState(true);
     const [isError, setIsError] = useState(false);
 
 
-    const generateTransactionSummary = async () => {
+    const resetDashboard = () => {
+        setIncome(0)
+        setExpense(0)
+        setTransactions(0)
+        setCategorySummary([])
+        setBudgetAmount(0)
+    }
+
+    // All dashboard figures for the month come back from a single request.
+    const fetchDashboard = async () => {
         setIsLoading(true)
         setIsError(false)
         try {
@@ -23,32 +31,24 @@ function useDashboard(currentMonth, refreshKey = 0) {
             if (!user || !user.id) {
                 console.error("User not found or not authenticated")
                 setIsError(true)
-                setIsLoading(false)
                 return
             }
 
-            const income_response = await UserService.getTotalIncomeOrExpense(user.id, 2, currentMonth.id, currentMonth.year)
-            if (income_response && income_response.data && income_response.data.status === "SUCCESS") {
-                setIncome(Number((income_response.data.response) ? income_response.data.response.toFixed(2) : 0))
-            } else {
-                setIncome(0)
-            }
-
-            const expense_response = await UserService.getTotalIncomeOrExpense(user.id, 1, currentMonth.id, currentMonth.year)
-            if (expense_response && expense_response.data && expense_response.data.status === "SUCCESS") {
-                setExpense(Number((expense_response.data.response) ? expense_response.data.response.toFixed(2) : 0))
-            } else {
-                setExpense(0)
-            }
-
-            const no_response = await UserService.getTotalNoOfTransactions(user.id, currentMonth.id, currentMonth.year)
-            if (no_response && no_response.data && no_response.data.status === "SUCCESS") {
-                setTransactions(no_response.data.response || 0)
+            const response = await UserService.getDashboard(user.id, currentMonth.id, currentMonth.year)
+            if (response && response.data && response.data.status === "SUCCESS") {
+                const dashboard = response.data.response
+                setIncome(Number(dashboard.totalIncome.toFixed(2)))
+                setExpense(Number(dashboard.totalExpense.toFixed(2)))
+                setTransactions(dashboard.noOfTransactions)
+                setCategorySummary(dashboard.categoryTotals
+                    .filter(cat => cat.transactionTypeId === EXPENSE_TYPE_ID && cat.total)
+                    .map(cat => ({ name: cat.categoryName, amount: Number(cat.total.toFixed(2)) })))
+                setBudgetAmount(dashboard.budget || 0)
             } else {
-                setTransactions(0)
+                resetDashboard()
             }
         } catch (error) {
-            console.error("Error fetching transaction summary:", error)
+            console.error("Error fetching dashboard:", error)
             console.error("Error details:", {
                 message: error.message,
                 response: error.response?.data,
@@ -56,68 +56,23 @@ function useDashboard(currentMonth, refreshKey = 0) {
                 year: currentMonth.year
             })
             setIsError(true)
-            setIncome(0)
-            setExpense(0)
-            setTransactions(0)
-        } finally {
-            setIsLoading(false)
-        }
-    }
-
-    const generateCategorySummary = async () => {
-        if (!categories || categories.length === 0) return
-        setIsLoading(true)
-        const filtered = [];
-        try {
-            await Promise.all(categories.filter(cat => cat.transactionType.transactionTypeId === 1).map(async (cat) => {
-                try {
-                    const response = await UserService.getTotalByCategory(AuthService.getCurrentUser().email, cat.categoryId, currentMonth.id, currentMonth.year);
-                    if (response.data.status === "SUCCESS" && response.data.response) {
-                        filtered.push({ name: cat.categoryName, amount: Number(response.data.response ? response.data.response.toFixed(2) : 0) });
-                    }
-                } catch (error) {
-                    console.error(`Error fetching category ${cat.categoryName}:`, error)
-                }
-            }));
-            setCategorySummary(filtered)
-        } catch (error) {
-            console.error("Error generating category summary:", error)
-            setIsError(true)
-        } finally {
-            setIsLoading(false)
-        }
-    }
-
-    const fetchBudget = async () => {
-        setIsLoading(true)
-        try {
-            const response = await UserService.getBudget(currentMonth.id, currentMonth.year)
-            setBudgetAmount(response.data.response || 0)
-        } catch (error) {
-            console.error("Error fetching budget:", error)
-            setBudgetAmount(0)
+            resetDashboard()
         } finally {
             setIsLoading(false)
         }
     }
 
     const saveBudget = async (d) => {
-        const response = await UserService.createBudget(d.amount)
-            .then((response) => {
-            })
+        await UserService.createBudget(d.amount)
             .catch((error) => {
                 setIsError(true)
             })
-        fetchBudget()
+        fetchDashboard()
     }
 
     useEffect(() => {
-        generateTransactionSummary()
-        if (categories) {
-            generateCategorySummary()
-        }
-        fetchBudget()
-    }, [currentMonth, categories, refreshKey])
+        fetchDashboard()
+    }, [currentMonth, refreshKey])
 
     return [
         total_expense,
@@ -134,4 +89,4 @@ function useDashboard(currentMonth, refreshKey = 0) {
 
 }
 
-export default useDashboard;
\ No newline at end of file
+export default useDashboard;
@@ -16,9 +16,10 @@ axios.interceptors.response.use(
       const currentPath = window.location.pathname;
       const requestUrl = error.config && error.config.url ? error.config.url : '';
       
-      // For export report downloads, don't clear session or redirect; let the page show an error instead
-      if (requestUrl.includes('/report/exportTransactions')) {
-        console.warn('401 on exportTransactions request - likely expired token. Not redirecting automatically.');
+      // For export requests (the job submit, status and download calls as well as the direct
+      // exportTransactions downloads), don't clear session or redirect; let the page show an error instead
+      if (requestUrl.includes('/report/export')) {
+        console.warn('401 on export request - likely expired token. Not redirecting automatically.');
         return Promise.reject(error);
       }
       
@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import AdminService from "../../services/adminService";
 import AuthService from "../../services/auth.service";
+import { EXPENSE_TYPE_ID } from "../../services/transactionTypes";
 import '../../assets/styles/user.css'
 import Header from "../../components/utils/header";
 import Loading from "../../components/utils/loading";
@@ -118,7 +119,7 @@ function TransactionsTableBody({ data }) {
                 <td>{item.description || "-"}</td>
                 <td>
                     {
-                        item.transactionType === 1 ? "- " : "+ "
+                        item.transactionType === EXPENSE_TYPE_ID ? "- " : "+ "
                     }
                     {item.amount}
                 </td>
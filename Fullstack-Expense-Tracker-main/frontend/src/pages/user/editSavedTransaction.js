@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import UserService from '../../services/userService';
+import { INCOME_TYPE_ID, TRANSACTION_TYPES } from '../../services/transactionTypes';
 import TransactionTypeSelectWrapper from '../../components/userTransactions/transactionTypeSelectWrapper';
 import Header from '../../components/utils/header';
 import useCategories from '../../hooks/useCategories';
@@ -10,14 +11,12 @@ import Container from '../../components/utils/Container';
 import toast from 'react-hot-toast';
 import SavedTransactionForm from '../../components/userTransactions/SavedTransactionForm';
 
-const transactionTypes = [{ 'id': 1, 'name': 'Expense' }, { 'id': 2, 'name': 'Income' }]
-
 function EditSavedTransaction() {
     const { transactionId } = useParams();
     const [transaction, setData] = useState({});
     const [categories, isFetching] = useCategories();
     const [filteredCategories, setFilteredCategories] = useState([]);
-    const [activeTransactionType, setTransactionType] = useState(2);
+    const [activeTransactionType, setTransactionType] = useState(INCOME_TYPE_ID);
     const [isSaving, setIsSaving] = useState(false);
     const [isDeleting, setIsDeleting] = useState(false);
     const navigate = useNavigate();
@@ -103,7 +102,7 @@ function EditSavedTransaction() {
                 (!isFetching && categories.length !== 0) && (
                     <>
                         <TransactionTypeSelectWrapper
-                            transactionTypes={transactionTypes}
+                            transactionTypes={TRANSACTION_TYPES}
                             setTransactionType={setTransactionType}
                             activeTransactionType={activeTransactionType}
                         />
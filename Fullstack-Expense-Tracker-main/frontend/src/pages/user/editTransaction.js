@@ -2,6 +2,7 @@ import { useEffect, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import AuthService from '../../services/auth.service';
 import UserService from '../../services/userService';
+import { EXPENSE_TYPE_ID, TRANSACTION_TYPES } from '../../services/transactionTypes';
 import TransactionForm from '../../components/userTransactions/transactionForm';
 import TransactionTypeSelectWrapper from '../../components/userTransactions/transactionTypeSelectWrapper';
 import Header from '../../components/utils/header';
@@ -11,15 +12,13 @@ import Info from '../../components/utils/Info';
 import Container from '../../components/utils/Container';
 import toast from 'react-hot-toast';
 
-const transactionTypes = [{ 'id': 1, 'name': 'Expense' }, { 'id': 2, 'name': 'Income' }]
-
 function EditTransaction() {
 
     const { transactionId } = useParams();
     const [transaction, setData] = useState({});
     const [categories, isFetching] = useCategories();
     const [filteredCategories, setFilteredCategories] = useState([]);
-    const [activeTransactionType, setTransactionType] = useState(1);
+    const [activeTransactionType, setTransactionType] = useState(EXPENSE_TYPE_ID);
     const [isSaving, setIsSaving] = useState(false);
     const [isDeleting, setIsDeleting] = useState(false);
     const navigate = useNavigate();
@@ -104,7 +103,7 @@ function EditTransaction() {
                 (!isFetching && categories.length !== 0) && (
                     <>
                         <TransactionTypeSelectWrapper
-                            transactionTypes={transactionTypes}
+                            transactionTypes={TRANSACTION_TYPES}
                             setTransactionType={setTransactionType}
                             activeTransactionType={activeTransactionType}
                         />
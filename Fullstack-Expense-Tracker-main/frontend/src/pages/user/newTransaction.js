@@ -2,6 +2,7 @@ import { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import AuthService from '../../services/auth.service';
 import UserService from '../../services/userService';
+import { EXPENSE_TYPE_ID, TRANSACTION_TYPES } from '../../services/transactionTypes';
 import TransactionForm from '../../components/userTransactions/transactionForm';
 import TransactionTypeSelectWrapper from '../../components/userTransactions/transactionTypeSelectWrapper';
 import Header from '../../components/utils/header';
@@ -12,13 +13,11 @@ import Info from '../../components/utils/Info';
 import Container from '../../components/utils/Container';
 import toast, { Toaster } from 'react-hot-toast';
 
-const transactionTypes = [{ 'id': 1, 'name': 'Expense' }, { 'id': 2, 'name': 'Income' }]
-
 function NewTransaction() {
 
     const [categories, isFetching] = useCategories();
     const [filteredCategories, setFilteredCategories] = useState([]);
-    const [activeTransactionType, setTransactionType] = useState(1);
+    const [activeTransactionType, setTransactionType] = useState(EXPENSE_TYPE_ID);
     const [isSaving, setIsSaving] = useState(false);
 
     const navigate = useNavigate();
@@ -90,7 +89,7 @@ function NewTransaction() {
                 (!isFetching && categories.length !== 0) && (
                     <>
                         <TransactionTypeSelectWrapper
-                            transactionTypes={transactionTypes}
+                            transactionTypes={TRANSACTION_TYPES}
                             setTransactionType={setTransactionType}
                             activeTransactionType={activeTransactionType}
                         />
@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import UserService from '../../services/userService';
+import { EXPENSE_TYPE_ID } from '../../services/transactionTypes';
 import Header from '../../components/utils/header';
 import Loading from '../../components/utils/loading';
 import { Link, useLocation } from 'react-router-dom';
@@ -30,10 +31,10 @@ function SavedTransactions() {
         }
     }
 
-    const saveTransaction = async (id) => {
+    const saveTransaction = async (id, date) => {
         setIsLoading(true)
         try {
-            const response = await UserService.addSavedTransaction(id)
+            const response = await UserService.addSavedTransaction(id, date)
             if (response && response.data && response.data.response) {
                 toast.success(response.data.response)
                 getTransactions()
@@ -48,10 +49,10 @@ function SavedTransactions() {
         }
     }
 
-    const skipTransaction = async (id) => {
+    const skipTransaction = async (id, date) => {
         setIsLoading(true)
         try {
-            const response = await UserService.skipSavedTransaction(id)
+            const response = await UserService.skipSavedTransaction(id, date)
             if (response && response.data && response.data.response) {
                 toast.success(response.data.response)
                 getTransactions()
@@ -106,7 +107,7 @@ function SavedTransactionList({ list, saveTransaction, skipTransaction }) {
                 t.dueInformation && <div className='st-card' key={t.planId}>
                 <div className='topic'>
                     <h4>{t.categoryName}</h4>
-                    <h4>{ t.transactionType === 1 ? "- " : "+ " } Rs. {t.amount}</h4>
+                    <h4>{ t.transactionType === EXPENSE_TYPE_ID ? "- " : "+ " } Rs. {t.amount}</h4>
                 </div>
                 <p>
                     {t.description}
@@ -121,11 +122,11 @@ function SavedTransactionList({ list, saveTransaction, skipTransaction }) {
                 </p>
                 <div>
                     <button 
-                        onClick={() => saveTransaction(t.planId)}
+                        onClick={() => saveTransaction(t.planId, t.upcomingDate)}
                     >Confirm</button>
                     <button 
                         className='button outline'
-                        onClick={() => skipTransaction(t.planId)}
+                        onClick={() => skipTransaction(t.planId, t.upcomingDate)}
                     >Skip</button>
                     <Link to={`/user/editSavedTransaction/${t.planId}`}><button className='button outline'>Edit</button></Link>
                 </div>
@@ -0,0 +1,5 @@
+// Transaction type ids, pinned on the server by the V13 migration (ETransactionType.EXPENSE_ID / INCOME_ID).
+export const EXPENSE_TYPE_ID = 1;
+export const INCOME_TYPE_ID = 2;
+
+export const TRANSACTION_TYPES = [{ 'id': EXPENSE_TYPE_ID, 'name': 'Expense' }, { 'id': INCOME_TYPE_ID, 'name': 'Income' }];
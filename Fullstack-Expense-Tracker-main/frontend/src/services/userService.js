@@ -120,6 +120,20 @@ const getTotalNoOfTransactions = async (userId, month, year) => {
     )
 }
 
+const getDashboard = async (userId, month, year) => {
+    return axios.get(
+        API_BASE_URL + '/report/dashboard', 
+        {
+            headers: AuthService.authHeader(), 
+            params: {
+                userId: userId,
+                month: month,
+                year: year
+            }
+        }
+    )
+}
+
 const getTotalByCategory = async (email, categoryId, month, year) => {
     return await axios.get(
         API_BASE_URL + '/report/getTotalByCategory', 
@@ -158,6 +172,49 @@ const getMonthlySummary = async (email) => {
     )
 }
 
+// Polls for about five minutes before giving up on an export job.
+const EXPORT_POLL_INTERVAL_MS = 1000
+const EXPORT_POLL_ATTEMPTS = 300
+
+// Exports are generated in the background: submit a job, poll until it is done, then fetch the
+// file. Submitting again while the same export is still running returns the same job.
+const runExportJob = async (email, format, headers) => {
+    const submitted = await axios.post(
+        API_BASE_URL + '/report/export', null,
+        {
+            headers: headers,
+            params: { email, format }
+        }
+    )
+    let job = submitted.data.response
+    let attempts = 0
+    while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+        if (++attempts > EXPORT_POLL_ATTEMPTS) {
+            throw new Error('Export is taking too long. Try again later!')
+        }
+        await new Promise((resolve) => setTimeout(resolve, EXPORT_POLL_INTERVAL_MS))
+        const status = await axios.get(
+            API_BASE_URL + '/report/export/status',
+            {
+                headers: headers,
+                params: { email, jobId: job.jobId }
+            }
+        )
+        job = status.data.response
+    }
+    if (job.status !== 'COMPLETED') {
+        throw new Error(job.message || 'Export failed. Try again later!')
+    }
+    return await axios.get(
+        API_BASE_URL + '/report/export/download',
+        {
+            headers: headers,
+            params: { email, jobId: job.jobId },
+            responseType: 'blob'
+        }
+    )
+}
+
 const downloadTransactionsPdf = async (email) => {
     const user = AuthService.getCurrentUser();
     if (!user || !user.token) {
@@ -170,14 +227,7 @@ const downloadTransactionsPdf = async (email) => {
     console.log('Download PDF - Token present:', !!user.token);
     console.log('Download PDF - Token length:', user.token ? user.token.length : 0);
     
-    return await axios.get(
-        API_BASE_URL + '/report/exportTransactions/pdf',
-        {
-            headers: headers,
-            params: { email },
-            responseType: 'blob'
-        }
-    )
+    return await runExportJob(email, 'pdf', headers)
 }
 
 const downloadTransactionsExcel = async (email) => {
@@ -192,14 +242,7 @@ const downloadTransactionsExcel = async (email) => {
     console.log('Download Excel - Token present:', !!user.token);
     console.log('Download Excel - Token length:', user.token ? user.token.length : 0);
     
-    return await axios.get(
-        API_BASE_URL + '/report/exportTransactions/excel',
-        {
-            headers: headers,
-            params: { email },
-            responseType: 'blob'
-        }
-    )
+    return await runExportJob(email, 'excel', headers)
 }
 
 const getBudget = async (month, year) => {
@@ -334,25 +377,27 @@ const deleteSavedTransaction = (id) => {
     )
 }
 
-const addSavedTransaction = (id) => {
+const addSavedTransaction = (id, date) => {
     return axios.get(
         API_BASE_URL + '/saved/add', 
         {
             headers: AuthService.authHeader(),
             params: {
-                id: id
+                id: id,
+                date: date
             }
         }
     )
 }
 
-const skipSavedTransaction = (id) => {
+const skipSavedTransaction = (id, date) => {
     return axios.get(
         API_BASE_URL + '/saved/skip', 
         {
             headers: AuthService.authHeader(),
             params: {
-                id: id
+                id: id,
+                date: date
             }
         }
     )
@@ -369,6 +414,7 @@ const UserService = {
     getTotalIncomeOrExpense,
     getTotalNoOfTransactions,
     getTotalByCategory,
+    getDashboard,
     getMonthlySummary,
     getBudget,
     createBudget,